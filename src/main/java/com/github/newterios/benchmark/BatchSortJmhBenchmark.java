@@ -0,0 +1,72 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.sort.BatchSorter;
+import com.github.newterios.sort.HybridMergeSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Many independent small arrays: one sorter per array on the calling thread vs BatchSorter on the common pool
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class BatchSortJmhBenchmark {
+
+    @Param({"100000"})
+    public int arrays;
+
+    @Param({"8", "50", "500"})
+    public int maxLength;
+
+    private int[][] sources;
+    private int[][] batch;
+    private BatchSorter batchSorter;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sources = new int[arrays][];
+        batch = new int[arrays][];
+        for (int i = 0; i < arrays; i++) {
+            sources[i] = InputDistribution.RANDOM.generate(1 + i % maxLength);
+            batch[i] = new int[sources[i].length];
+        }
+        batchSorter = new BatchSorter();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        for (int i = 0; i < arrays; i++) {
+            System.arraycopy(sources[i], 0, batch[i], 0, sources[i].length);
+        }
+    }
+
+    @Benchmark
+    public void sequentialPerCall(Blackhole blackhole) {
+        for (int[] array : batch) {
+            new HybridMergeSort(SortMetrics.noOp()).sort(array);
+        }
+        blackhole.consume(batch);
+    }
+
+    @Benchmark
+    public void batchSorter(Blackhole blackhole) {
+        batchSorter.sort(batch);
+        blackhole.consume(batch);
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.geometry.ClosestPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ClosestPairJmhBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private ClosestPair closestPair;
+    private ClosestPair.Point[] points;
+
+    // findClosestPair sorts its own copies, so the input can be shared across invocations
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        closestPair = new ClosestPair();
+        points = new ClosestPair.Point[size];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < size; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble(-10000, 10000), random.nextDouble(-10000, 10000));
+        }
+    }
+
+    @Benchmark
+    public ClosestPair.Pair divideAndConquer() {
+        return closestPair.findClosestPair(points);
+    }
+}
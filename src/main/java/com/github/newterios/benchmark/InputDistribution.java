@@ -0,0 +1,38 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.performance.ArrayGenerator;
+
+public enum InputDistribution {
+    RANDOM {
+        @Override
+        public int[] generate(int size) {
+            return ArrayGenerator.generateRandomArray(size, 1, (int) Math.min(Integer.MAX_VALUE - 1, size * 10L));
+        }
+    },
+    SORTED {
+        @Override
+        public int[] generate(int size) {
+            return ArrayGenerator.generateSortedArray(size, 1);
+        }
+    },
+    REVERSE_SORTED {
+        @Override
+        public int[] generate(int size) {
+            return ArrayGenerator.generateReverseSortedArray(size, 1);
+        }
+    },
+    NEARLY_SORTED {
+        @Override
+        public int[] generate(int size) {
+            return ArrayGenerator.generateNearlySortedArray(size, 1, 0.05);
+        }
+    },
+    DUPLICATES {
+        @Override
+        public int[] generate(int size) {
+            return ArrayGenerator.generateArrayWithDuplicates(size, 10);
+        }
+    };
+
+    public abstract int[] generate(int size);
+}
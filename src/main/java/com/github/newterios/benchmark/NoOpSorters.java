@@ -0,0 +1,46 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.sort.BottomUpMergeSort;
+import com.github.newterios.sort.HybridMergeSort;
+import com.github.newterios.sort.InsertionSort;
+import com.github.newterios.sort.MergeSort;
+import com.github.newterios.sort.ParallelHybridMergeSort;
+import com.github.newterios.sort.ParallelQuickSort;
+import com.github.newterios.sort.QuickSort;
+import com.github.newterios.sort.RadixSort;
+import com.github.newterios.sort.Sorter;
+import com.github.newterios.sort.SorterRegistry;
+import com.github.newterios.sort.TuningProfile;
+
+import java.util.concurrent.ForkJoinPool;
+
+// The registry only builds default instances, which count every comparison; JMH should time the engines without that
+final class NoOpSorters {
+
+    private NoOpSorters() {
+    }
+
+    // Covers every name in META-INF/services; anything else still goes through the registry
+    static Sorter create(String name) {
+        SortMetrics metrics = SortMetrics.noOp();
+        TuningProfile profile = TuningProfile.current();
+        return switch (name) {
+            case "InsertionSort" -> new InsertionSort(metrics);
+            case "MergeSort" -> new MergeSort(metrics);
+            case "BottomUpMergeSort" -> new BottomUpMergeSort(metrics);
+            case "HybridMergeSort" -> new HybridMergeSort(metrics);
+            case "HybridMergeSort-ADAPTIVE" -> new HybridMergeSort(metrics, true);
+            case "QuickSort" -> new QuickSort(metrics);
+            case "QuickSort-THREE_WAY" -> new QuickSort(metrics, QuickSort.Partitioning.THREE_WAY, false);
+            case "QuickSort-BLOCK" -> new QuickSort(metrics, QuickSort.Partitioning.BLOCK, false);
+            case "QuickSort-INTROSORT" -> new QuickSort(metrics, QuickSort.Partitioning.LOMUTO, true);
+            case "RadixSort" -> new RadixSort(metrics);
+            case "ParallelHybridMergeSort" ->
+                    new ParallelHybridMergeSort(metrics, ForkJoinPool.commonPool(), profile.getParallelMergeThreshold());
+            case "ParallelQuickSort" ->
+                    new ParallelQuickSort(metrics, ForkJoinPool.commonPool(), profile.getParallelQuickSortCutoff());
+            default -> SorterRegistry.create(name);
+        };
+    }
+}
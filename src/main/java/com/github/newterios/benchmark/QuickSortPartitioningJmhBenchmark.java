@@ -0,0 +1,63 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.sort.QuickSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Compares QuickSort partitioning strategies with metrics disabled, so counter updates do not hide branch costs
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class QuickSortPartitioningJmhBenchmark {
+
+    @Param({"LOMUTO", "THREE_WAY", "BLOCK"})
+    public QuickSort.Partitioning partitioning;
+
+    @Param({"false", "true"})
+    public boolean introsort;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATES"})
+    public InputDistribution distribution;
+
+    private QuickSort sorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = new QuickSort(SortMetrics.noOp(), partitioning, introsort);
+        source = distribution.generate(size);
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+}
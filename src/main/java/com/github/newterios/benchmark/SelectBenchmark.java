@@ -1,6 +1,9 @@
 package com.github.newterios.benchmark;
 
 import com.github.newterios.sort.DeterministicSelect;
+import com.github.newterios.sort.FloydRivestSelect;
+import com.github.newterios.sort.Selector;
+import com.github.newterios.performance.AllocationCounter;
 import com.github.newterios.performance.ArrayGenerator;
 import java.util.Arrays;
 import java.util.Random;
@@ -15,7 +18,7 @@ public class SelectBenchmark {
     public static void runBenchmarks() {
         System.out.println("=== SELECT ALGORITHMS BENCHMARK ===\n");
 
-        int[] sizes = {100, 1000, 10000, 50000};
+        int[] sizes = {100, 1000, 10000, 50000, 1000000};
 
         for (int size : sizes) {
             System.out.println("--- Array size: " + size + " ---");
@@ -24,7 +27,11 @@ public class SelectBenchmark {
             int k = RANDOM.nextInt(size);
 
 
-            benchmarkSelect("DeterministicSelect", array.clone(), k);
+            benchmarkSelect("MedianOfMedians", new DeterministicSelect(DeterministicSelect.Strategy.MEDIAN_OF_MEDIANS), array.clone(), k);
+
+            benchmarkSelect("Introselect", new DeterministicSelect(DeterministicSelect.Strategy.INTROSELECT), array.clone(), k);
+
+            benchmarkSelect("FloydRivest", new FloydRivestSelect(), array.clone(), k);
 
             benchmarkArraysSort("ArraysSort", array.clone(), k);
 
@@ -32,17 +39,26 @@ public class SelectBenchmark {
         }
     }
 
-    private static void benchmarkSelect(String name, int[] array, int k) {
+    private static void benchmarkSelect(String name, Selector selector, int[] array, int k) {
+        int[] again = array.clone();
         long startTime = System.nanoTime();
 
         try {
-            DeterministicSelect selector = new DeterministicSelect();
             int result = selector.select(array, k);
 
             long endTime = System.nanoTime();
             double timeMs = (endTime - startTime) / 1_000_000.0;
 
-            System.out.printf("%-15s: %.3f ms (result: %d)%n", name, timeMs, result);
+            // Selection works in place, so a repeated call should report no heap allocation
+            long allocatedBefore = AllocationCounter.currentThreadAllocatedBytes();
+            selector.select(again, k);
+            long allocated = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+
+            if (AllocationCounter.isSupported()) {
+                System.out.printf("%-15s: %.3f ms (result: %d), %d bytes allocated per select%n", name, timeMs, result, allocated);
+            } else {
+                System.out.printf("%-15s: %.3f ms (result: %d)%n", name, timeMs, result);
+            }
         } catch (Exception e) {
             System.err.println("Error in " + name + ": " + e.getMessage());
         }
@@ -0,0 +1,103 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.sort.DeterministicSelect;
+import com.github.newterios.sort.FloydRivestSelect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SelectJmhBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATES"})
+    public InputDistribution distribution;
+
+    @Param({"0.5", "0.99"})
+    public double quantile;
+
+    private DeterministicSelect selector;
+    private DeterministicSelect introselect;
+    private FloydRivestSelect floydRivest;
+    private int[] source;
+    private int[] array;
+    private int[] rankArray;
+    private int k;
+    private int[] tailRanks;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        selector = new DeterministicSelect(SortMetrics.noOp(), DeterministicSelect.Strategy.MEDIAN_OF_MEDIANS);
+        introselect = new DeterministicSelect(SortMetrics.noOp(), DeterministicSelect.Strategy.INTROSELECT);
+        floydRivest = new FloydRivestSelect(SortMetrics.noOp());
+        source = distribution.generate(size);
+        array = new int[size];
+        rankArray = new int[size];
+        k = (int) Math.min(size - 1, (long) (quantile * size));
+        tailRanks = new int[]{size / 2, size * 9 / 10, size * 19 / 20, size * 99 / 100, (int) (size * 999L / 1000)};
+    }
+
+    // Selection partitions the array in place, so every invocation starts from a fresh copy
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public int deterministicSelect() {
+        return selector.select(array, k);
+    }
+
+    @Benchmark
+    public int introselect() {
+        return introselect.select(array, k);
+    }
+
+    @Benchmark
+    public int floydRivest() {
+        return floydRivest.select(array, k);
+    }
+
+    // p50/p90/p95/p99/p999 in one partitioning pass versus one select per rank
+    @Benchmark
+    public int[] multiSelectTail() {
+        return introselect.multiSelect(array, tailRanks);
+    }
+
+    // Each rank selects on a fresh copy, as separate callers would; the copies are part of the cost being compared
+    @Benchmark
+    public int repeatedSelectTail() {
+        int sum = 0;
+        for (int rank : tailRanks) {
+            System.arraycopy(source, 0, rankArray, 0, size);
+            sum += introselect.select(rankArray, rank);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arraysSort() {
+        Arrays.sort(array);
+        return array[k];
+    }
+}
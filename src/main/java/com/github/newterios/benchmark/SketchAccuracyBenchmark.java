@@ -0,0 +1,71 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.sort.DeterministicSelect;
+import com.github.newterios.sort.KllSketch;
+
+import java.util.Arrays;
+
+// Accuracy versus memory of KllSketch against exact answers from DeterministicSelect
+public class SketchAccuracyBenchmark {
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+    private static final int[] SKETCH_KS = {50, 100, 200, 400, 800};
+
+    public static void main(String[] args) {
+        runBenchmarks();
+    }
+
+    public static void runBenchmarks() {
+        System.out.println("=== QUANTILE SKETCH ACCURACY VS MEMORY ===\n");
+
+        int size = 1_000_000;
+        for (InputDistribution distribution : new InputDistribution[]{
+                InputDistribution.RANDOM, InputDistribution.NEARLY_SORTED, InputDistribution.DUPLICATES}) {
+            System.out.printf("--- %s, %d values (%d bytes as int[]) ---%n", distribution, size, size * Integer.BYTES);
+
+            int[] data = distribution.generate(size);
+
+            long startTime = System.nanoTime();
+            int[] exact = new DeterministicSelect().percentiles(data.clone(), PERCENTILES);
+            double exactMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.printf("%-12s: %8.3f ms, exact p50..p999 %s%n", "Select", exactMs, Arrays.toString(exact));
+
+            for (int k : SKETCH_KS) {
+                benchmarkSketch(k, data);
+            }
+            System.out.println();
+        }
+    }
+
+    private static void benchmarkSketch(int k, int[] data) {
+        long startTime = System.nanoTime();
+        KllSketch sketch = new KllSketch(k);
+        sketch.add(data);
+        double timeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        double maxError = 0;
+        for (double percentile : PERCENTILES) {
+            maxError = Math.max(maxError, rankError(data, sketch.quantile(percentile / 100), percentile / 100));
+        }
+
+        System.out.printf("KLL k=%-6d: %8.3f ms, %5d items retained, %6d bytes serialized, max rank error %.4f%n",
+                k, timeMs, sketch.getRetainedItems(), sketch.getSerializedSizeBytes(), maxError);
+    }
+
+    // Distance from q * n to the nearest true rank of answer, as a fraction of n
+    private static double rankError(int[] data, int answer, double q) {
+        long below = 0;
+        long atOrBelow = 0;
+        for (int value : data) {
+            if (value < answer) {
+                below++;
+            }
+            if (value <= answer) {
+                atOrBelow++;
+            }
+        }
+
+        double target = q * data.length;
+        double distance = target < below ? below - target : target > atOrBelow ? target - atOrBelow : 0;
+        return distance / data.length;
+    }
+}
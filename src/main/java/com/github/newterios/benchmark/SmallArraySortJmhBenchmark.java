@@ -0,0 +1,76 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.sort.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Small sorts are too short for per-invocation setup, so each invocation restores and sorts a whole batch;
+// subtract the copyOnly baseline to get the cost of the sort itself
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SmallArraySortJmhBenchmark {
+    private static final int BATCH = 1024;
+
+    @Param({"InsertionSort", "HybridMergeSort", "QuickSort", "MergeSort", "RadixSort", "BottomUpMergeSort"})
+    public String algorithm;
+
+    @Param({"8", "16", "64", "256"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATES"})
+    public InputDistribution distribution;
+
+    private Sorter sorter;
+    private int[][] sources;
+    private int[][] arrays;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = NoOpSorters.create(algorithm);
+        sources = new int[BATCH][];
+        arrays = new int[BATCH][];
+        for (int i = 0; i < BATCH; i++) {
+            sources[i] = distribution.generate(size);
+            arrays[i] = new int[size];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void sort(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            int[] array = arrays[i];
+            System.arraycopy(sources[i], 0, array, 0, size);
+            sorter.sort(array);
+            blackhole.consume(array);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void copyOnly(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            int[] array = arrays[i];
+            System.arraycopy(sources[i], 0, array, 0, size);
+            blackhole.consume(array);
+        }
+    }
+}
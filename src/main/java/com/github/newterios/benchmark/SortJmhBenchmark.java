@@ -0,0 +1,60 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.sort.Sorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// InsertionSort is quadratic; it is covered by SmallArraySortJmhBenchmark (or pass -p algorithm=InsertionSort)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortJmhBenchmark {
+
+    @Param({"HybridMergeSort", "QuickSort", "MergeSort", "ParallelHybridMergeSort", "ParallelQuickSort", "RadixSort", "BottomUpMergeSort"})
+    public String algorithm;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "DUPLICATES"})
+    public InputDistribution distribution;
+
+    private Sorter sorter;
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = NoOpSorters.create(algorithm);
+        source = distribution.generate(size);
+        array = new int[size];
+    }
+
+    // Sorting is destructive, so every invocation starts from a fresh copy
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void sort(Blackhole blackhole) {
+        sorter.sort(array);
+        blackhole.consume(array);
+    }
+}
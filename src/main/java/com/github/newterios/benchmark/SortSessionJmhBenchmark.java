@@ -0,0 +1,69 @@
+package com.github.newterios.benchmark;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.sort.HybridMergeSort;
+import com.github.newterios.sort.SortSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Run with -prof gc: gc.alloc.rate.norm should be ~0 B/op for session and grow with size for freshSorter
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SortSessionJmhBenchmark {
+    private static final int BATCH = 256;
+
+    @Param({"64", "1024", "16384"})
+    public int size;
+
+    private int[][] sources;
+    private int[] array;
+    private SortSession session;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sources = new int[BATCH][];
+        for (int i = 0; i < BATCH; i++) {
+            sources[i] = InputDistribution.RANDOM.generate(size);
+        }
+        array = new int[size];
+        session = new SortSession();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void freshSorter(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(sources[i], 0, array, 0, size);
+            new HybridMergeSort(SortMetrics.noOp()).sort(array);
+            blackhole.consume(array);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void session(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            System.arraycopy(sources[i], 0, array, 0, size);
+            session.sort(array);
+            blackhole.consume(array);
+        }
+    }
+}
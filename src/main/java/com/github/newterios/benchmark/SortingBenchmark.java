@@ -1,8 +1,8 @@
 package com.github.newterios.benchmark;
 
 import com.github.newterios.sort.*;
+import com.github.newterios.performance.AllocationCounter;
 import com.github.newterios.performance.ArrayGenerator;
-import java.util.concurrent.TimeUnit;
 
 public class SortingBenchmark {
 
@@ -20,29 +20,21 @@ public class SortingBenchmark {
 
             int[] array = ArrayGenerator.generateRandomArray(size, 1, size * 10);
 
-            benchmarkAlgorithm("HybridMergeSort", new HybridMergeSort(), array.clone());
-
-            benchmarkAlgorithm("QuickSort", new QuickSort(), array.clone());
-
-            if (size <= 10000) {
-                benchmarkAlgorithm("InsertionSort", new InsertionSort(), array.clone());
+            for (Sorter sorter : SorterRegistry.createAll()) {
+                if (size <= sorter.getMaxRecommendedSize()) {
+                    benchmarkAlgorithm(sorter.getName(), sorter, array.clone());
+                }
             }
 
             System.out.println();
         }
     }
 
-    private static void benchmarkAlgorithm(String name, Object sorter, int[] array) {
+    private static void benchmarkAlgorithm(String name, Sorter sorter, int[] array) {
         long startTime = System.nanoTime();
 
         try {
-            if (sorter instanceof HybridMergeSort) {
-                ((HybridMergeSort) sorter).sort(array);
-            } else if (sorter instanceof QuickSort) {
-                ((QuickSort) sorter).sort(array);
-            } else if (sorter instanceof InsertionSort) {
-                ((InsertionSort) sorter).sort(array);
-            }
+            sorter.sort(array);
         } catch (Exception e) {
             System.err.println("Error in " + name + ": " + e.getMessage());
             return;
@@ -51,6 +43,16 @@ public class SortingBenchmark {
         long endTime = System.nanoTime();
         double timeMs = (endTime - startTime) / 1_000_000.0;
 
-        System.out.printf("%-15s: %.3f ms%n", name, timeMs);
+        // A second sort on the same instance shows what each call allocates on its own; merge sorts allocate scratch every call
+        int[] again = array.clone();
+        long allocatedBefore = AllocationCounter.currentThreadAllocatedBytes();
+        sorter.sort(again);
+        long allocated = AllocationCounter.currentThreadAllocatedBytes() - allocatedBefore;
+
+        if (AllocationCounter.isSupported()) {
+            System.out.printf("%-15s: %.3f ms, %d bytes allocated on reuse%n", name, timeMs, allocated);
+        } else {
+            System.out.printf("%-15s: %.3f ms%n", name, timeMs);
+        }
     }
 }
\ No newline at end of file
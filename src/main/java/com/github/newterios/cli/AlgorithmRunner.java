@@ -9,6 +9,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Random;
@@ -45,6 +46,43 @@ public class AlgorithmRunner {
             case "benchmark-select":
                 runSelectBenchmark();
                 break;
+            case "benchmark-sketch":
+                runSketchBenchmark();
+                break;
+            case "list-sorters":
+                listSorters();
+                break;
+            case "run-sorter":
+                if (args.length < 2) {
+                    System.out.println("run-sorter requires a sorter name");
+                    printUsage();
+                    return;
+                }
+                Integer size = args.length > 2 ? parseSize(args[2]) : Integer.valueOf(10000);
+                if (size == null) {
+                    System.out.println("run-sorter size must be a positive integer, got: " + args[2]);
+                    printUsage();
+                    return;
+                }
+                runSorter(args[1], size);
+                break;
+            case "external-sort":
+                if (args.length < 3) {
+                    System.out.println("external-sort requires an input and an output file");
+                    printUsage();
+                    return;
+                }
+                Long memoryMegabytes = args.length > 3 ? parseMemoryMegabytes(args[3]) : Long.valueOf(64);
+                if (memoryMegabytes == null) {
+                    System.out.println("external-sort memoryMB must be a positive integer, got: " + args[3]);
+                    printUsage();
+                    return;
+                }
+                runExternalSort(args[1], args[2], memoryMegabytes);
+                break;
+            case "tune":
+                runTuning(args.length > 1 ? Paths.get(args[1]) : TuningProfile.defaultPath());
+                break;
             default:
                 System.out.println("Unknown command: " + command);
                 printUsage();
@@ -61,6 +99,11 @@ public class AlgorithmRunner {
         System.out.println("  generate-csv    - Generate CSV performance data");
         System.out.println("  benchmark-sorting - Run sorting benchmarks");
         System.out.println("  benchmark-select  - Run select benchmarks");
+        System.out.println("  benchmark-sketch  - Compare quantile sketch accuracy and memory with exact select");
+        System.out.println("  list-sorters      - List sorters registered via ServiceLoader");
+        System.out.println("  run-sorter <name> [size] - Run one registered sorter on random data");
+        System.out.println("  external-sort <in> <out> [memoryMB] - Sort a binary file of big-endian ints");
+        System.out.println("  tune [profile]    - Time candidate cutoffs on this host and write a tuning profile");
     }
 
     private static void runAllAlgorithms() {
@@ -81,6 +124,90 @@ public class AlgorithmRunner {
         com.github.newterios.benchmark.SelectBenchmark.runBenchmarks();
     }
 
+    private static void runSketchBenchmark() {
+        com.github.newterios.benchmark.SketchAccuracyBenchmark.runBenchmarks();
+    }
+
+    private static void listSorters() {
+        System.out.println("=== REGISTERED SORTERS ===");
+        for (String name : SorterRegistry.getNames()) {
+            System.out.println("  " + name);
+        }
+    }
+
+    // Returns null for anything that is not a positive int
+    private static Integer parseSize(String value) {
+        try {
+            int size = Integer.parseInt(value);
+            return size > 0 ? size : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Returns null for anything that is not a positive megabyte count whose byte size fits in a long
+    private static Long parseMemoryMegabytes(String value) {
+        try {
+            long megabytes = Long.parseLong(value);
+            return megabytes > 0 && megabytes <= Long.MAX_VALUE >> 20 ? megabytes : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void runSorter(String name, int size) {
+        if (!SorterRegistry.contains(name)) {
+            System.out.println("Unknown sorter: " + name);
+            listSorters();
+            return;
+        }
+
+        System.out.printf("=== %s (size %d) ===%n", name, size);
+
+        Sorter sorter = SorterRegistry.create(name);
+        int[] array = ArrayGenerator.generateRandomArray(size, 1, size * 10);
+
+        sorter.getMetrics().startTimer();
+        sorter.sort(array);
+        sorter.getMetrics().stopTimer();
+
+        System.out.printf("%s: %s%n", name, sorter.getMetrics());
+        System.out.println("Sorted: " + isSorted(array));
+    }
+
+    private static void runExternalSort(String input, String output, long memoryMegabytes) {
+        System.out.println("=== EXTERNAL MERGE SORT ===");
+
+        ExternalMergeSort sorter = new ExternalMergeSort(new HybridMergeSort(), memoryMegabytes << 20);
+        try {
+            sorter.getMetrics().startTimer();
+            sorter.sort(Paths.get(input), Paths.get(output));
+            sorter.getMetrics().stopTimer();
+            System.out.printf("Sorted %s into %s: %s%n", input, output, sorter.getMetrics());
+        } catch (IOException e) {
+            System.err.println("Error during external sort: " + e.getMessage());
+            e.printStackTrace();
+        } catch (IllegalArgumentException e) {
+            // Inputs the sorter rejects, such as a file whose size is not a whole number of ints
+            System.err.println("Error during external sort: " + e.getMessage());
+        }
+    }
+
+    private static void runTuning(Path profilePath) {
+        System.out.println("=== TUNING SORT CUTOFFS ===");
+        System.out.println("Current: " + TuningProfile.current());
+
+        TuningProfile profile = new SortTuner().tune();
+        try {
+            profile.store(profilePath);
+            System.out.println("Tuned:   " + profile);
+            System.out.println("Profile written to " + profilePath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error writing tuning profile: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     private static void testSortingAlgorithms() {
         System.out.println("=== SORTING ALGORITHMS TEST ===");
 
@@ -89,41 +216,33 @@ public class AlgorithmRunner {
             System.out.println("\n--- Testing with array size: " + size + " ---");
 
             int[] array = ArrayGenerator.generateRandomArray(size, 1, size * 10);
-            int[] arrayCopy1 = Arrays.copyOf(array, array.length);
-            int[] arrayCopy2 = Arrays.copyOf(array, array.length);
-            int[] arrayCopy3 = Arrays.copyOf(array, array.length);
-
-            // Hybrid Merge Sort
-            HybridMergeSort hybridSorter = new HybridMergeSort();
-            hybridSorter.getMetrics().startTimer();
-            hybridSorter.sort(arrayCopy1);
-            hybridSorter.getMetrics().stopTimer();
-            SortMetrics hybridMetrics = hybridSorter.getMetrics();
-            System.out.printf("Hybrid Merge Sort: %s%n", hybridMetrics);
-
-            QuickSort quickSorter = new QuickSort();
-            quickSorter.getMetrics().startTimer();
-            quickSorter.sort(arrayCopy2);
-            quickSorter.getMetrics().stopTimer();
-            SortMetrics quickMetrics = quickSorter.getMetrics();
-            System.out.printf("QuickSort: %s%n", quickMetrics);
-
-            if (size <= 10000) {
-                InsertionSort insertionSorter = new InsertionSort();
-                insertionSorter.getMetrics().startTimer();
-                insertionSorter.sort(arrayCopy3);
-                insertionSorter.getMetrics().stopTimer();
-                SortMetrics insertionMetrics = insertionSorter.getMetrics();
-                System.out.printf("Insertion Sort: %s%n", insertionMetrics);
+            int[] expected = Arrays.copyOf(array, array.length);
+            Arrays.sort(expected);
+            boolean allEqual = true;
+
+            for (Sorter sorter : SorterRegistry.createAll()) {
+                if (size > sorter.getMaxRecommendedSize()) {
+                    continue;
+                }
+
+                int[] arrayCopy = Arrays.copyOf(array, array.length);
+                sorter.getMetrics().startTimer();
+                sorter.sort(arrayCopy);
+                sorter.getMetrics().stopTimer();
+                SortMetrics metrics = sorter.getMetrics();
+                System.out.printf("%s: %s%n", sorter.getName(), metrics);
+
+                allEqual &= Arrays.equals(expected, arrayCopy);
+
+                if (metrics.getMaxRecursionDepth() > 0) {
+                    double expectedMaxDepth = 2 * (Math.log(size) / Math.log(2));
+                    System.out.printf("%s depth check: %d <= %.1f + 10: %s%n", sorter.getName(),
+                            metrics.getMaxRecursionDepth(), expectedMaxDepth,
+                            metrics.getMaxRecursionDepth() <= expectedMaxDepth + 10);
+                }
             }
 
-            boolean allEqual = Arrays.equals(arrayCopy1, arrayCopy2);
             System.out.println("Results consistent: " + allEqual);
-
-            double expectedMaxDepth = 2 * (Math.log(size) / Math.log(2));
-            System.out.printf("QuickSort depth check: %d <= %.1f + 10: %s%n",
-                    quickMetrics.getMaxRecursionDepth(), expectedMaxDepth,
-                    quickMetrics.getMaxRecursionDepth() <= expectedMaxDepth + 10);
         }
     }
 
@@ -196,14 +315,11 @@ public class AlgorithmRunner {
 
                 int[] array = ArrayGenerator.generateRandomArray(size, 1, size * 10);
 
-                if (testAlgorithmCSV(writer, "HybridMergeSort", new HybridMergeSort(), array, size)) {
-                    successfulTests++;
-                }
-                if (testAlgorithmCSV(writer, "QuickSort", new QuickSort(), array, size)) {
-                    successfulTests++;
-                }
-                if (size <= 10000 && testAlgorithmCSV(writer, "InsertionSort", new InsertionSort(), array, size)) {
-                    successfulTests++;
+                for (Sorter sorter : SorterRegistry.createAll()) {
+                    if (size <= sorter.getMaxRecommendedSize()
+                            && testAlgorithmCSV(writer, sorter.getName(), sorter, array, size)) {
+                        successfulTests++;
+                    }
                 }
             }
 
@@ -216,30 +332,14 @@ public class AlgorithmRunner {
         }
     }
 
-    private static boolean testAlgorithmCSV(PrintWriter writer, String algorithmName, Object sorter, int[] array, int size) {
+    private static boolean testAlgorithmCSV(PrintWriter writer, String algorithmName, Sorter sorter, int[] array, int size) {
         int[] arrayCopy = Arrays.copyOf(array, array.length);
-        SortMetrics metrics = null;
 
         try {
-            if (sorter instanceof HybridMergeSort) {
-                HybridMergeSort hybridSorter = (HybridMergeSort) sorter;
-                hybridSorter.getMetrics().startTimer();
-                hybridSorter.sort(arrayCopy);
-                hybridSorter.getMetrics().stopTimer();
-                metrics = hybridSorter.getMetrics();
-            } else if (sorter instanceof QuickSort) {
-                QuickSort quickSorter = (QuickSort) sorter;
-                quickSorter.getMetrics().startTimer();
-                quickSorter.sort(arrayCopy);
-                quickSorter.getMetrics().stopTimer();
-                metrics = quickSorter.getMetrics();
-            } else if (sorter instanceof InsertionSort) {
-                InsertionSort insertionSorter = (InsertionSort) sorter;
-                insertionSorter.getMetrics().startTimer();
-                insertionSorter.sort(arrayCopy);
-                insertionSorter.getMetrics().stopTimer();
-                metrics = insertionSorter.getMetrics();
-            }
+            sorter.getMetrics().startTimer();
+            sorter.sort(arrayCopy);
+            sorter.getMetrics().stopTimer();
+            SortMetrics metrics = sorter.getMetrics();
 
             if (metrics != null && isSorted(arrayCopy)) {
                 writer.printf("%s,%d,%d,%d,%d,%d,%.3f%n",
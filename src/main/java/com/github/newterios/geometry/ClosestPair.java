@@ -7,7 +7,14 @@ public class ClosestPair {
     private final SortMetrics metrics;
 
     public ClosestPair() {
-        this.metrics = new SortMetrics();
+        this(new SortMetrics());
+    }
+
+    public ClosestPair(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
     }
 
     public static class Point {
@@ -8,6 +8,15 @@ public class SortMetrics {
     private int currentRecursionDepth;
     private int maxRecursionDepth;
 
+    public static SortMetrics noOp() {
+        return new NoOpSortMetrics();
+    }
+
+    // Fresh metrics of the same kind, for workers that accumulate locally before merging back
+    public SortMetrics newLocal() {
+        return new SortMetrics();
+    }
+
     public void reset() {
         comparisons = 0;
         assignments = 0;
@@ -41,6 +50,13 @@ public class SortMetrics {
         assignments += count;
     }
 
+    // Folds in counters gathered by a worker that ran beneath this metrics' current depth
+    public void merge(SortMetrics other) {
+        comparisons += other.comparisons;
+        assignments += other.assignments;
+        maxRecursionDepth = Math.max(maxRecursionDepth, currentRecursionDepth + other.maxRecursionDepth);
+    }
+
     public void enterRecursion() {
         currentRecursionDepth++;
         maxRecursionDepth = Math.max(maxRecursionDepth, currentRecursionDepth);
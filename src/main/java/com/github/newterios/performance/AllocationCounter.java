@@ -0,0 +1,29 @@
+package com.github.newterios.performance;
+
+import java.lang.management.ManagementFactory;
+
+// Heap bytes allocated by the current thread, via HotSpot's com.sun.management.ThreadMXBean
+public final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS = lookup();
+
+    private AllocationCounter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    // Returns -1 when the JVM cannot report per-thread allocation
+    public static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean lookup() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+// Sorts many independent arrays across a work-stealing pool. Each leaf task owns its engines and merge scratch,
+// so buffers carry over between the arrays of one task and are released when it ends. Up to 16 elements use
+// a sorting network, up to 64 InsertionSort, and anything larger HybridMergeSort
+public class BatchSorter {
+    static final int NETWORK_LIMIT = SortingNetworks.MAX_SIZE;
+    static final int INSERTION_SORT_LIMIT = 64;
+    private static final int ARRAYS_PER_TASK = 64;
+
+    private final ForkJoinPool pool;
+
+    public BatchSorter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BatchSorter(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        this.pool = pool;
+    }
+
+    // Null entries are skipped, matching Sorter.sort(null)
+    public void sort(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        pool.invoke(new BatchTask(arrays, null, 0, arrays.length));
+    }
+
+    // result[i] describes arrays[i]; counters are per array, not cumulative
+    public SortMetrics[] sortWithMetrics(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        SortMetrics[] results = new SortMetrics[arrays.length];
+        pool.invoke(new BatchTask(arrays, results, 0, arrays.length));
+        return results;
+    }
+
+    public void sort(Stream<int[]> arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        int[][] batch = arrays.toArray(int[][]::new);
+        pool.invoke(new BatchTask(batch, null, 0, batch.length));
+    }
+
+    private static final class BatchTask extends RecursiveAction {
+        private final int[][] arrays;
+        private final SortMetrics[] results;
+        private final int from;
+        private final int to;
+
+        BatchTask(int[][] arrays, SortMetrics[] results, int from, int to) {
+            this.arrays = arrays;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ARRAYS_PER_TASK) {
+                if (results == null) {
+                    Engines engines = new Engines(SortMetrics.noOp());
+                    for (int i = from; i < to; i++) {
+                        engines.sort(arrays[i]);
+                    }
+                } else {
+                    Engines engines = new Engines(new SortMetrics());
+                    for (int i = from; i < to; i++) {
+                        results[i] = engines.sortAndMeasure(arrays[i]);
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(arrays, results, from, mid), new BatchTask(arrays, results, mid, to));
+        }
+    }
+
+    // Confined to one leaf task
+    private static final class Engines {
+        private final SortMetrics networkMetrics;
+        private final InsertionSort insertionSort;
+        private final HybridMergeSort hybridMergeSort;
+        private final SortScratch scratch = new SortScratch();
+
+        Engines(SortMetrics metrics) {
+            this.networkMetrics = metrics.newLocal();
+            this.insertionSort = new InsertionSort(metrics.newLocal());
+            this.hybridMergeSort = new HybridMergeSort(metrics.newLocal());
+        }
+
+        void sort(int[] array) {
+            if (array == null || array.length <= 1) {
+                return;
+            }
+            if (array.length <= NETWORK_LIMIT) {
+                networkMetrics.reset();
+                SortingNetworks.sort(array, 0, array.length, networkMetrics);
+            } else if (array.length <= INSERTION_SORT_LIMIT) {
+                insertionSort.sort(array);
+            } else {
+                hybridMergeSort.sort(array, scratch);
+            }
+        }
+
+        SortMetrics sortAndMeasure(int[] array) {
+            SortMetrics result = new SortMetrics();
+            result.startTimer();
+            sort(array);
+            result.stopTimer();
+
+            if (array == null || array.length <= 1) {
+                return result;
+            }
+            if (array.length <= NETWORK_LIMIT) {
+                result.merge(networkMetrics);
+            } else if (array.length <= INSERTION_SORT_LIMIT) {
+                result.merge(insertionSort.getMetrics());
+            } else {
+                result.merge(hybridMergeSort.getMetrics());
+            }
+            return result;
+        }
+    }
+}
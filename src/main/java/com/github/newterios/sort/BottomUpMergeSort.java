@@ -0,0 +1,91 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+public class BottomUpMergeSort implements Sorter, ScratchSorter {
+    private final SortMetrics metrics;
+
+    public BottomUpMergeSort() {
+        this(new SortMetrics());
+    }
+
+    public BottomUpMergeSort(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        sortWith(array, new int[array.length]);
+    }
+
+    @Override
+    public void sort(int[] array, SortScratch scratch) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        sortWith(array, scratch.ints(array.length));
+    }
+
+    // The scratch only lives in locals, so nothing outlives the call
+    private void sortWith(int[] array, int[] scratch) {
+        int n = array.length;
+
+        // Each pass merges from source into target, then the roles swap, so nothing is copied back per merge
+        int[] source = array;
+        int[] target = scratch;
+        // Run bounds are computed in long: for n > 2^30, width << 1 and left + 2 * width overflow int
+        for (long width = 1; width < n; width <<= 1) {
+            for (long left = 0; left < n; left += width << 1) {
+                int mid = (int) Math.min(left + width, n);
+                int right = (int) Math.min(left + (width << 1), n);
+                merge(source, target, (int) left, mid, right);
+            }
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            metrics.addAssignments(n);
+        }
+    }
+
+    // Merges source[left, mid) and source[mid, right) into target[left, right)
+    private void merge(int[] source, int[] target, int left, int mid, int right) {
+        int i = left, j = mid, k = left;
+
+        while (i < mid && j < right) {
+            metrics.incrementComparisons();
+            if (source[i] <= source[j]) {
+                target[k++] = source[i++];
+            } else {
+                target[k++] = source[j++];
+            }
+            metrics.incrementAssignments();
+        }
+
+        if (i < mid) {
+            System.arraycopy(source, i, target, k, mid - i);
+            metrics.addAssignments(mid - i);
+        } else if (j < right) {
+            System.arraycopy(source, j, target, k, right - j);
+            metrics.addAssignments(right - j);
+        }
+    }
+
+    @Override
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
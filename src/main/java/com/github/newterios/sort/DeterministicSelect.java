@@ -1,16 +1,48 @@
 package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Arrays;
 
-public class DeterministicSelect {
+public class DeterministicSelect implements Selector {
+
+    public enum Strategy {
+        MEDIAN_OF_MEDIANS,
+        // Median-of-3 quickselect that switches to median-of-medians pivots once partitions stop halving the range
+        INTROSELECT
+    }
+
+    // Partitions allowed to run without halving the range before introselect falls back
+    private static final int STALL_LIMIT = 3;
 
     private final SortMetrics metrics;
+    private final Strategy strategy;
 
     public DeterministicSelect() {
-        this.metrics = new SortMetrics();
+        this(new SortMetrics());
+    }
+
+    public DeterministicSelect(Strategy strategy) {
+        this(new SortMetrics(), strategy);
+    }
+
+    public DeterministicSelect(SortMetrics metrics) {
+        this(metrics, Strategy.INTROSELECT);
+    }
+
+    public DeterministicSelect(SortMetrics metrics, Strategy strategy) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.metrics = metrics;
+        this.strategy = strategy;
     }
 
+    @Override
     public int select(int[] array, int k) {
         metrics.reset();
         if (array == null || array.length == 0) {
@@ -19,44 +51,188 @@ public class DeterministicSelect {
         if (k < 0 || k >= array.length) {
             throw new IllegalArgumentException("k must be between 0 and array.length - 1");
         }
-        return select(array, 0, array.length - 1, k);
+        return select(array, 0, array.length - 1, k, strategy == Strategy.MEDIAN_OF_MEDIANS);
     }
 
-    private int select(int[] array, int left, int right, int k) {
+    private int select(int[] array, int left, int right, int k, boolean medianOfMediansPivots) {
         metrics.enterRecursion();
         try {
-            if (left == right) {
-                return array[left];
+            return selectLoop(array, left, right, k, medianOfMediansPivots);
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private int selectLoop(int[] array, int left, int right, int k, boolean medianOfMediansPivots) {
+        int stalledPartitions = 0;
+        int checkpoint = right - left + 1;
+
+        while (right - left + 1 > SortingNetworks.MAX_SIZE) {
+            int size = right - left + 1;
+            if (size <= checkpoint / 2) {
+                checkpoint = size;
+                stalledPartitions = 0;
+            } else if (stalledPartitions++ == STALL_LIMIT) {
+                // Every median-of-medians pivot discards a constant fraction, which keeps the whole search linear
+                medianOfMediansPivots = true;
             }
 
-            int pivotIndex = medianOfMediansPartition(array, left, right);
+            int pivot = medianOfMediansPivots
+                    ? medianOfMedians(array, left, right)
+                    : medianOfThree(array, left, left + (right - left) / 2, right);
+
+            long bounds = partition(array, left, right, pivot);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
 
-            if (k == pivotIndex) {
-                return array[k];
-            } else if (k < pivotIndex) {
-                return select(array, left, pivotIndex - 1, k);
+            if (k < lessEnd) {
+                right = lessEnd - 1;
+            } else if (k > greaterStart) {
+                left = greaterStart + 1;
             } else {
-                return select(array, pivotIndex + 1, right, k);
+                return pivot;
+            }
+        }
+
+        SortingNetworks.sort(array, left, right - left + 1, metrics);
+        return array[k];
+    }
+
+    public int[] multiSelect(int[] array, int[] ks) {
+        metrics.reset();
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (ks == null) {
+            throw new IllegalArgumentException("Ranks cannot be null");
+        }
+        for (int k : ks) {
+            if (k < 0 || k >= array.length) {
+                throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+            }
+        }
+        if (ks.length == 0) {
+            return new int[0];
+        }
+
+        int[] ranks = ks.clone();
+        Arrays.sort(ranks);
+        int depthBudget = strategy == Strategy.MEDIAN_OF_MEDIANS ? 0 : 2 * (31 - Integer.numberOfLeadingZeros(array.length));
+        multiSelect(array, 0, array.length - 1, ranks, 0, ranks.length, depthBudget);
+
+        int[] result = new int[ks.length];
+        for (int i = 0; i < ks.length; i++) {
+            result[i] = array[ks[i]];
+        }
+        return result;
+    }
+
+    // Nearest-rank percentiles in [0, 100], e.g. 99.9 for p999
+    public int[] percentiles(int[] array, double... percentiles) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (percentiles == null) {
+            throw new IllegalArgumentException("Percentiles cannot be null");
+        }
+
+        int[] ks = new int[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            double percentile = percentiles[i];
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            // Decimal arithmetic: in doubles 99.9 * 41000 / 100 lands just above 40959 and ceil overshoots by one
+            BigDecimal rank = BigDecimal.valueOf(percentile)
+                    .multiply(BigDecimal.valueOf(array.length))
+                    .divide(BigDecimal.valueOf(100))
+                    .setScale(0, RoundingMode.CEILING);
+            ks[i] = Math.max(0, rank.intValue() - 1);
+        }
+        return multiSelect(array, ks);
+    }
+
+    // Leaves array[k] in its sorted position for every k in ranks[rankFrom, rankTo), which is sorted and inside [left, right]
+    private void multiSelect(int[] array, int left, int right, int[] ranks, int rankFrom, int rankTo, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            if (rankTo - rankFrom == 1) {
+                select(array, left, right, ranks[rankFrom], depthBudget == 0);
+                return;
+            }
+            if (right - left + 1 <= SortingNetworks.MAX_SIZE) {
+                SortingNetworks.sort(array, left, right - left + 1, metrics);
+                return;
+            }
+
+            // Once the budget runs out every pivot is a median of medians, which bounds the worst case like introsort does
+            int pivot = depthBudget == 0
+                    ? medianOfMedians(array, left, right)
+                    : medianOfThree(array, left, left + (right - left) / 2, right);
+            long bounds = partition(array, left, right, pivot);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+
+            int lessRanks = rankFrom;
+            while (lessRanks < rankTo && ranks[lessRanks] < lessEnd) {
+                lessRanks++;
+            }
+            int greaterRanks = lessRanks;
+            while (greaterRanks < rankTo && ranks[greaterRanks] <= greaterStart) {
+                greaterRanks++;
+            }
+
+            int childBudget = Math.max(0, depthBudget - 1);
+            if (lessRanks > rankFrom) {
+                multiSelect(array, left, lessEnd - 1, ranks, rankFrom, lessRanks, childBudget);
+            }
+            if (rankTo > greaterRanks) {
+                multiSelect(array, greaterStart + 1, right, ranks, greaterRanks, rankTo, childBudget);
             }
         } finally {
             metrics.exitRecursion();
         }
     }
 
-    private int medianOfMediansPartition(int[] array, int left, int right) {
-        int pivotValue = medianOfMedians(array, left, right);
-
-        for (int i = left; i <= right; i++) {
+    // Three-way partition so runs of keys equal to the pivot are settled in one pass.
+    // Returns the start of the equal block in the high half and its end in the low half.
+    private long partition(int[] array, int left, int right, int pivot) {
+        int lessEnd = left;
+        int greaterStart = right;
+        int i = left;
+        while (i <= greaterStart) {
             metrics.incrementComparisons();
-            if (array[i] == pivotValue) {
-                swap(array, i, right);
-                break;
+            if (array[i] < pivot) {
+                swap(array, lessEnd++, i++);
+            } else {
+                metrics.incrementComparisons();
+                if (array[i] > pivot) {
+                    swap(array, i, greaterStart--);
+                } else {
+                    i++;
+                }
             }
         }
+        return ((long) lessEnd << 32) | (greaterStart & 0xFFFFFFFFL);
+    }
 
-        return partition(array, left, right);
+    private int medianOfThree(int[] array, int a, int b, int c) {
+        int x = array[a];
+        int y = array[b];
+        int z = array[c];
+        metrics.addComparisons(3);
+        if (x > y) {
+            int temp = x;
+            x = y;
+            y = temp;
+        }
+        if (y > z) {
+            y = z;
+        }
+        return Math.max(x, y);
     }
 
+    // Gathers the group medians at the front of the range and selects among them there, so no arrays are allocated
     private int medianOfMedians(int[] array, int left, int right) {
         int n = right - left + 1;
         if (n <= 5) {
@@ -64,68 +240,30 @@ public class DeterministicSelect {
         }
 
         int numGroups = (n + 4) / 5;
-        int[] medians = new int[numGroups];
-
         for (int i = 0; i < numGroups; i++) {
             int groupLeft = left + i * 5;
             int groupRight = Math.min(groupLeft + 4, right);
-            medians[i] = medianOfFive(array, groupLeft, groupRight);
+            medianOfFive(array, groupLeft, groupRight);
+            swap(array, left + i, groupLeft + (groupRight - groupLeft) / 2);
         }
 
-        return select(medians, 0, medians.length - 1, medians.length / 2);
+        return select(array, left, left + numGroups - 1, left + numGroups / 2, true);
     }
 
+    // Sorts the group in place, leaving its median in the middle slot
     private int medianOfFive(int[] array, int left, int right) {
-        int[] group = Arrays.copyOfRange(array, left, right + 1);
-        insertionSort(group);
-        return group[group.length / 2];
-    }
-
-    private void insertionSort(int[] array) {
-        for (int i = 1; i < array.length; i++) {
-            int key = array[i];
-            metrics.incrementAssignments();
-            int j = i - 1;
-
-            while (j >= 0) {
-                metrics.incrementComparisons();
-                if (array[j] > key) {
-                    array[j + 1] = array[j];
-                    metrics.incrementAssignments();
-                    j--;
-                } else {
-                    break;
-                }
-            }
-            array[j + 1] = key;
-            metrics.incrementAssignments();
-        }
-    }
-
-    private int partition(int[] array, int left, int right) {
-        int pivot = array[right];
-        int i = left - 1;
-
-        for (int j = left; j < right; j++) {
-            metrics.incrementComparisons();
-            if (array[j] <= pivot) {
-                i++;
-                swap(array, i, j);
-            }
-        }
-        swap(array, i + 1, right);
-        return i + 1;
+        SortingNetworks.sort(array, left, right - left + 1, metrics);
+        return array[left + (right - left) / 2];
     }
 
     private void swap(int[] array, int i, int j) {
         int temp = array[i];
         array[i] = array[j];
         array[j] = temp;
-        metrics.incrementAssignments();
-        metrics.incrementAssignments();
-        metrics.incrementAssignments();
+        metrics.addAssignments(3); // 3 assignments per swap
     }
 
+    @Override
     public SortMetrics getMetrics() {
         return metrics;
     }
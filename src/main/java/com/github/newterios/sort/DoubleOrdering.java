@@ -0,0 +1,56 @@
+package com.github.newterios.sort;
+
+// Lets double[] sorts use plain primitive comparisons while matching Double.compare:
+// -0.0 sorts before 0.0 and every NaN sorts after positive infinity
+final class DoubleOrdering {
+
+    private DoubleOrdering() {
+    }
+
+    // Moves NaNs behind every other value and returns how many non-NaN values precede them
+    static int moveNaNsToEnd(double[] array) {
+        int end = array.length;
+        for (int i = end - 1; i >= 0; i--) {
+            if (Double.isNaN(array[i])) {
+                end--;
+                double temp = array[i];
+                array[i] = array[end];
+                array[end] = temp;
+            }
+        }
+        return end;
+    }
+
+    // Rewrites -0.0 as 0.0 in array[0, end) and returns how many were rewritten
+    static int clearNegativeZeros(double[] array, int end) {
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (array[i] == 0.0d && Double.doubleToRawLongBits(array[i]) != 0L) {
+                array[i] = 0.0d;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Puts the rewritten -0.0 values back at the front of the sorted block of zeros
+    static void restoreNegativeZeros(double[] array, int end, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        int low = 0, high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < 0.0d) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < low + count; i++) {
+            array[i] = -0.0d;
+        }
+    }
+}
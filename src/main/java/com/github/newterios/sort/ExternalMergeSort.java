@@ -0,0 +1,146 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sorts files of big-endian 32-bit ints that do not fit in the heap: sorted chunks are spilled as runs, then k-way merged
+public class ExternalMergeSort {
+    private static final long DEFAULT_MEMORY_BYTES = 64L << 20;
+    private static final int DEFAULT_MAX_FAN_IN = 64;
+    private static final int MIN_IO_BUFFER_BYTES = 4096;
+    private static final int MAX_IO_BUFFER_BYTES = 1 << 20;
+
+    private final SortMetrics metrics;
+    private final Sorter chunkSorter;
+    private final long memoryBytes;
+    private final int maxFanIn;
+    private final Path tempDirectory;
+
+    public ExternalMergeSort() {
+        this(new HybridMergeSort(), DEFAULT_MEMORY_BYTES);
+    }
+
+    public ExternalMergeSort(Sorter chunkSorter, long memoryBytes) {
+        this(chunkSorter, memoryBytes, DEFAULT_MAX_FAN_IN, null);
+    }
+
+    public ExternalMergeSort(Sorter chunkSorter, long memoryBytes, int maxFanIn, Path tempDirectory) {
+        if (chunkSorter == null) {
+            throw new IllegalArgumentException("Chunk sorter cannot be null");
+        }
+        if (memoryBytes < 2L * MIN_IO_BUFFER_BYTES) {
+            throw new IllegalArgumentException("Memory budget must be at least " + 2 * MIN_IO_BUFFER_BYTES + " bytes");
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2");
+        }
+        this.metrics = new SortMetrics();
+        this.chunkSorter = chunkSorter;
+        this.memoryBytes = memoryBytes;
+        this.maxFanIn = maxFanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    public void sort(Path input, Path output) throws IOException {
+        metrics.reset();
+
+        // Every temp run ever created, so a failure in any pass removes the files of that pass too
+        List<Path> tempRuns = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long runCount = createRuns(input, output, runs, tempRuns);
+            if (runCount <= 1) {
+                return;
+            }
+
+            while (runs.size() > maxFanIn) {
+                List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += maxFanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + maxFanIn, runs.size()));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    Path target = createTempRun(tempRuns);
+                    merged.add(target);
+                    mergeRuns(group, target);
+                    RunFiles.deleteAll(group);
+                }
+                runs = merged;
+            }
+
+            mergeRuns(runs, output);
+        } finally {
+            RunFiles.deleteAll(tempRuns);
+        }
+    }
+
+    // Returns the number of runs; a single run is written straight to the output
+    private long createRuns(Path input, Path output, List<Path> runs, List<Path> tempRuns) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Input size " + size + " is not a multiple of " + Integer.BYTES);
+            }
+
+            long totalInts = size / Integer.BYTES;
+            // Half of the budget holds the chunk, the rest covers the chunk sorter's scratch space
+            int chunkInts = (int) Math.max(1, Math.min(totalInts, Math.min(Integer.MAX_VALUE - 8, memoryBytes / 2 / Integer.BYTES)));
+            long runCount = totalInts == 0 ? 0 : (totalInts + chunkInts - 1) / chunkInts;
+
+            if (runCount == 0) {
+                Files.write(output, new byte[0]);
+                return 0;
+            }
+
+            int[] chunk = new int[chunkInts];
+            for (long position = 0; position < totalInts; position += chunkInts) {
+                int count = (int) Math.min(chunkInts, totalInts - position);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position * Integer.BYTES, (long) count * Integer.BYTES);
+                mapped.asIntBuffer().get(chunk, 0, count);
+
+                // A short final chunk only sorts its filled prefix
+                chunkSorter.sort(chunk, 0, count);
+                metrics.merge(chunkSorter.getMetrics());
+
+                Path target = runCount == 1 ? output : createTempRun(tempRuns);
+                if (runCount > 1) {
+                    runs.add(target);
+                }
+                RunFiles.write(target, chunk, count, ioBufferBytes(1), metrics);
+            }
+            return runCount;
+        }
+    }
+
+    private void mergeRuns(List<Path> runs, Path target) throws IOException {
+        RunFiles.merge(runs, target, ioBufferBytes(runs.size() + 1), metrics);
+    }
+
+    private int ioBufferBytes(int buffers) {
+        long perBuffer = memoryBytes / 2 / buffers;
+        int bytes = (int) Math.max(MIN_IO_BUFFER_BYTES, Math.min(MAX_IO_BUFFER_BYTES, perBuffer));
+        return bytes & ~(Integer.BYTES - 1);
+    }
+
+    private Path createTempRun(List<Path> tempRuns) throws IOException {
+        Path run = tempDirectory == null
+                ? Files.createTempFile("external-sort-", ".run")
+                : Files.createTempFile(tempDirectory, "external-sort-", ".run");
+        tempRuns.add(run);
+        return run;
+    }
+
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+// Floyd & Rivest (1975): a recursive pass over a small sample brackets the k-th element,
+// so the main partition pass discards almost everything and needs about n + min(k, n - k) comparisons
+public class FloydRivestSelect implements Selector {
+
+    // Below this range size sampling costs more than it saves
+    private static final int SAMPLE_THRESHOLD = 600;
+
+    private final SortMetrics metrics;
+
+    public FloydRivestSelect() {
+        this(new SortMetrics());
+    }
+
+    public FloydRivestSelect(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
+    public int select(int[] array, int k) {
+        metrics.reset();
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+        }
+        select(array, 0, array.length - 1, k);
+        return array[k];
+    }
+
+    // Leaves the k-th smallest element of array[left..right] at index k
+    private void select(int[] array, int left, int right, int k) {
+        metrics.enterRecursion();
+        try {
+            while (right - left + 1 > SortingNetworks.MAX_SIZE) {
+                if (right - left > SAMPLE_THRESHOLD) {
+                    // Recurse on a sample of about n^(2/3) elements placed so that k's value is very likely inside it
+                    int n = right - left + 1;
+                    int i = k - left + 1;
+                    double z = Math.log(n);
+                    double s = 0.5 * Math.exp(2 * z / 3);
+                    double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+                    int sampleLeft = Math.max(left, (int) (k - i * s / n + sd));
+                    int sampleRight = Math.min(right, (int) (k + (n - i) * s / n + sd));
+                    select(array, sampleLeft, sampleRight, k);
+                }
+
+                int pivot = array[k];
+                int i = left;
+                int j = right;
+                swap(array, left, k);
+                metrics.incrementComparisons();
+                if (array[right] > pivot) {
+                    swap(array, right, left);
+                }
+
+                while (i < j) {
+                    swap(array, i, j);
+                    i++;
+                    j--;
+                    while (array[i] < pivot) {
+                        metrics.incrementComparisons();
+                        i++;
+                    }
+                    while (array[j] > pivot) {
+                        metrics.incrementComparisons();
+                        j--;
+                    }
+                    metrics.addComparisons(2);
+                }
+
+                metrics.incrementComparisons();
+                if (array[left] == pivot) {
+                    swap(array, left, j);
+                } else {
+                    j++;
+                    swap(array, j, right);
+                }
+
+                // array[j] now holds the pivot in its final position
+                if (j == k) {
+                    return;
+                } else if (j < k) {
+                    left = j + 1;
+                } else {
+                    right = j - 1;
+                }
+            }
+
+            SortingNetworks.sort(array, left, right - left + 1, metrics);
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        metrics.addAssignments(3);
+    }
+
+    @Override
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -2,35 +2,110 @@ package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
 
-public class HybridMergeSort {
+import java.util.Comparator;
+
+public class HybridMergeSort implements Sorter, ScratchSorter {
     private static final int INSERTION_SORT_THRESHOLD = 7;
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+    // Run lengths on the stack grow at least like Fibonacci numbers, so 49 entries cover any int[] length
+    private static final int MAX_RUN_STACK = 49;
 
     private final SortMetrics metrics;
+    private final boolean adaptive;
+    private final int leafSize;
     private int[] buffer;
+    private int bufferOffset;
+    private int[] runBase;
+    private int[] runLength;
+    private int runCount;
 
     public HybridMergeSort() {
-        this.metrics = new SortMetrics();
+        this(new SortMetrics());
+    }
+
+    public HybridMergeSort(SortMetrics metrics) {
+        this(metrics, false);
+    }
+
+    public HybridMergeSort(boolean adaptive) {
+        this(new SortMetrics(), adaptive);
+    }
+
+    public HybridMergeSort(SortMetrics metrics, boolean adaptive) {
+        this(metrics, adaptive, TuningProfile.current().getMergeSortCutoff());
+    }
+
+    HybridMergeSort(SortMetrics metrics, boolean adaptive, int leafSize) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (!TuningProfile.isValidLeafCutoff(leafSize)) {
+            throw new IllegalArgumentException("Leaf size must be between 2 and " + SortingNetworks.MAX_SIZE);
+        }
+        this.metrics = metrics;
+        this.adaptive = adaptive;
+        this.leafSize = leafSize;
     }
 
+    @Override
     public void sort(int[] array) {
         metrics.reset();
         if (array == null || array.length <= 1) {
             return;
         }
+        sortOwned(array, 0, array.length, new int[array.length / 2 + 1]);
+    }
 
-        buffer = new int[array.length / 2 + 1];
-        sort(array, 0, array.length - 1);
+    @Override
+    public void sort(int[] array, SortScratch scratch) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        sortOwned(array, 0, array.length, scratch.ints(array.length / 2 + 1));
     }
 
-    private void sort(int[] array, int left, int right) {
-        if (right - left + 1 <= INSERTION_SORT_THRESHOLD) {
-            insertionSort(array, left, right);
+    @Override
+    public void sort(int[] array, int from, int to) {
+        metrics.reset();
+        RangeCheck.check(array, from, to);
+        if (to - from > 1) {
+            sortOwned(array, from, to, new int[(to - from) / 2 + 1]);
+        }
+    }
+
+    private void sortOwned(int[] array, int from, int to, int[] scratch) {
+        buffer = scratch;
+        bufferOffset = 0;
+        try {
+            if (adaptive) {
+                naturalMergeSort(array, from, to);
+            } else {
+                mergeSort(array, from, to - 1);
+            }
+        } finally {
+            // Dropped after the call, so the instance does not keep the scratch alive
+            buffer = null;
+        }
+    }
+
+    // Sorts array[left..right] using buffer[bufferOffset..] as merge scratch; metrics are not reset
+    void sortRange(int[] array, int left, int right, int[] buffer, int bufferOffset) {
+        this.buffer = buffer;
+        this.bufferOffset = bufferOffset;
+        mergeSort(array, left, right);
+    }
+
+    private void mergeSort(int[] array, int left, int right) {
+        if (right - left + 1 <= leafSize) {
+            SortingNetworks.sort(array, left, right - left + 1, metrics);
             return;
         }
 
         int mid = left + (right - left) / 2;
-        sort(array, left, mid);
-        sort(array, mid + 1, right);
+        mergeSort(array, left, mid);
+        mergeSort(array, mid + 1, right);
         linearMerge(array, left, mid, right);
     }
 
@@ -58,6 +133,170 @@ public class HybridMergeSort {
     private void linearMerge(int[] array, int left, int mid, int right) {
         int leftSize = mid - left + 1;
 
+        System.arraycopy(array, left, buffer, bufferOffset, leftSize);
+        metrics.addAssignments(leftSize);
+
+        int i = bufferOffset, j = mid + 1, k = left;
+        int leftEnd = bufferOffset + leftSize;
+
+        while (i < leftEnd && j <= right) {
+            metrics.incrementComparisons();
+            if (buffer[i] <= array[j]) {
+                array[k] = buffer[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                array[k] = array[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i < leftEnd) {
+            array[k] = buffer[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    // The typed overloads always use the top-down strategy; natural-run detection is int[] only
+    public void sort(long[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        sort(array, new long[array.length / 2 + 1], 0, array.length - 1);
+    }
+
+    public void sort(double[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int end = DoubleOrdering.moveNaNsToEnd(array);
+        int negativeZeros = DoubleOrdering.clearNegativeZeros(array, end);
+        if (end > 1) {
+            sort(array, new double[end / 2 + 1], 0, end - 1);
+        }
+        DoubleOrdering.restoreNegativeZeros(array, end, negativeZeros);
+    }
+
+    // Stable, so it can order records by one key after another
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        metrics.reset();
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        sort(array, new Object[array.length / 2 + 1], 0, array.length - 1, comparator);
+    }
+
+    private void sort(long[] array, long[] buffer, int left, int right) {
+        if (right - left + 1 <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right);
+            return;
+        }
+
+        int mid = left + (right - left) / 2;
+        sort(array, buffer, left, mid);
+        sort(array, buffer, mid + 1, right);
+        linearMerge(array, buffer, left, mid, right);
+    }
+
+    private void insertionSort(long[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = array[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (array[j] > key) {
+                    array[j + 1] = array[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+            metrics.incrementAssignments();
+        }
+    }
+
+    private void linearMerge(long[] array, long[] buffer, int left, int mid, int right) {
+        int leftSize = mid - left + 1;
+
+        System.arraycopy(array, left, buffer, 0, leftSize);
+        metrics.addAssignments(leftSize);
+
+        int i = 0, j = mid + 1, k = left;
+
+        while (i < leftSize && j <= right) {
+            metrics.incrementComparisons();
+            if (buffer[i] <= array[j]) {
+                array[k] = buffer[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                array[k] = array[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i < leftSize) {
+            array[k] = buffer[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    private void sort(double[] array, double[] buffer, int left, int right) {
+        if (right - left + 1 <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right);
+            return;
+        }
+
+        int mid = left + (right - left) / 2;
+        sort(array, buffer, left, mid);
+        sort(array, buffer, mid + 1, right);
+        linearMerge(array, buffer, left, mid, right);
+    }
+
+    private void insertionSort(double[] array, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            double key = array[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (array[j] > key) {
+                    array[j + 1] = array[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+            metrics.incrementAssignments();
+        }
+    }
+
+    private void linearMerge(double[] array, double[] buffer, int left, int mid, int right) {
+        int leftSize = mid - left + 1;
+
         System.arraycopy(array, left, buffer, 0, leftSize);
         metrics.addAssignments(leftSize);
 
@@ -85,6 +324,459 @@ public class HybridMergeSort {
         }
     }
 
+    private <T> void sort(T[] array, Object[] buffer, int left, int right, Comparator<? super T> comparator) {
+        if (right - left + 1 <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, left, right, comparator);
+            return;
+        }
+
+        int mid = left + (right - left) / 2;
+        sort(array, buffer, left, mid, comparator);
+        sort(array, buffer, mid + 1, right, comparator);
+        linearMerge(array, buffer, left, mid, right, comparator);
+    }
+
+    private <T> void insertionSort(T[] array, int left, int right, Comparator<? super T> comparator) {
+        for (int i = left + 1; i <= right; i++) {
+            T key = array[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (comparator.compare(array[j], key) > 0) {
+                    array[j + 1] = array[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+            metrics.incrementAssignments();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void linearMerge(T[] array, Object[] buffer, int left, int mid, int right, Comparator<? super T> comparator) {
+        int leftSize = mid - left + 1;
+
+        System.arraycopy(array, left, buffer, 0, leftSize);
+        metrics.addAssignments(leftSize);
+
+        int i = 0, j = mid + 1, k = left;
+
+        while (i < leftSize && j <= right) {
+            metrics.incrementComparisons();
+            if (comparator.compare((T) buffer[i], array[j]) <= 0) {
+                array[k] = (T) buffer[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                array[k] = array[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i < leftSize) {
+            array[k] = (T) buffer[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    // Stable permutation of indices into keys, ascending by key; keys itself is left untouched
+    public int[] argsort(int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+
+        int[] permutation = new int[keys.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+        // Sorting a key copy alongside the indices keeps the hot loop on sequential memory
+        sort(keys.clone(), permutation);
+        return permutation;
+    }
+
+    // Sorts keys and applies the same (stable) reordering to values
+    public void sort(int[] keys, int[] values) {
+        metrics.reset();
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("Keys and values cannot be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length");
+        }
+        if (keys.length <= 1) {
+            return;
+        }
+
+        int bufferSize = keys.length / 2 + 1;
+        sort(keys, values, new int[bufferSize], new int[bufferSize], 0, keys.length - 1);
+    }
+
+    private void sort(int[] keys, int[] values, int[] keyBuffer, int[] valueBuffer, int left, int right) {
+        if (right - left + 1 <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, values, left, right);
+            return;
+        }
+
+        int mid = left + (right - left) / 2;
+        sort(keys, values, keyBuffer, valueBuffer, left, mid);
+        sort(keys, values, keyBuffer, valueBuffer, mid + 1, right);
+        linearMerge(keys, values, keyBuffer, valueBuffer, left, mid, right);
+    }
+
+    private void insertionSort(int[] keys, int[] values, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int key = keys[i];
+            int value = values[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    values[j + 1] = values[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            keys[j + 1] = key;
+            values[j + 1] = value;
+            metrics.incrementAssignments();
+        }
+    }
+
+    private void linearMerge(int[] keys, int[] values, int[] keyBuffer, int[] valueBuffer,
+                             int left, int mid, int right) {
+        int leftSize = mid - left + 1;
+
+        System.arraycopy(keys, left, keyBuffer, 0, leftSize);
+        System.arraycopy(values, left, valueBuffer, 0, leftSize);
+        metrics.addAssignments(leftSize);
+
+        int i = 0, j = mid + 1, k = left;
+
+        while (i < leftSize && j <= right) {
+            metrics.incrementComparisons();
+            if (keyBuffer[i] <= keys[j]) {
+                keys[k] = keyBuffer[i];
+                values[k] = valueBuffer[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                keys[k] = keys[j];
+                values[k] = values[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i < leftSize) {
+            keys[k] = keyBuffer[i];
+            values[k] = valueBuffer[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    // TimSort-style: consume natural runs, pad short ones with insertion sort, keep the run stack balanced
+    private void naturalMergeSort(int[] array, int from, int to) {
+        int minRun = minRunLength(to - from);
+        if (runBase == null) {
+            runBase = new int[MAX_RUN_STACK];
+            runLength = new int[MAX_RUN_STACK];
+        }
+        runCount = 0;
+
+        int low = from;
+        while (low < to) {
+            int length = countRunAndMakeAscending(array, low, to);
+            if (length < minRun) {
+                int forced = Math.min(minRun, to - low);
+                insertionSort(array, low, low + forced - 1);
+                length = forced;
+            }
+
+            runBase[runCount] = low;
+            runLength[runCount] = length;
+            runCount++;
+            mergeCollapse(array);
+
+            low += length;
+        }
+
+        while (runCount > 1) {
+            int i = runCount - 2;
+            if (i > 0 && runLength[i - 1] < runLength[i + 1]) {
+                i--;
+            }
+            mergeAt(array, i);
+        }
+    }
+
+    private static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= n & 1;
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    // Returns the length of the run starting at low, reversing it first if it is strictly descending
+    private int countRunAndMakeAscending(int[] array, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        metrics.incrementComparisons();
+        if (array[runHigh++] < array[low]) {
+            while (runHigh < high) {
+                metrics.incrementComparisons();
+                if (array[runHigh] >= array[runHigh - 1]) {
+                    break;
+                }
+                runHigh++;
+            }
+            reverseRange(array, low, runHigh - 1);
+        } else {
+            while (runHigh < high) {
+                metrics.incrementComparisons();
+                if (array[runHigh] < array[runHigh - 1]) {
+                    break;
+                }
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    private void reverseRange(int[] array, int left, int right) {
+        while (left < right) {
+            int temp = array[left];
+            array[left++] = array[right];
+            array[right--] = temp;
+            metrics.addAssignments(3);
+        }
+    }
+
+    private void mergeCollapse(int[] array) {
+        while (runCount > 1) {
+            int i = runCount - 2;
+            if ((i > 0 && runLength[i - 1] <= runLength[i] + runLength[i + 1])
+                    || (i > 1 && runLength[i - 2] <= runLength[i] + runLength[i - 1])) {
+                if (runLength[i - 1] < runLength[i + 1]) {
+                    i--;
+                }
+            } else if (runLength[i] > runLength[i + 1]) {
+                break;
+            }
+            mergeAt(array, i);
+        }
+    }
+
+    private void mergeAt(int[] array, int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == runCount - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        runCount--;
+
+        // Leading elements of run 1 that precede run 2 entirely are already in place
+        int skipped = gallopFromLeft(array[base2], array, base1, length1, true);
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+
+        // Likewise for trailing elements of run 2
+        length2 -= gallopFromRight(array[base2 - 1], array, base2, length2, true);
+        if (length2 == 0) {
+            return;
+        }
+
+        if (length1 <= length2) {
+            mergeLow(array, base1, length1, base2, length2);
+        } else {
+            mergeHigh(array, base1, length1, base2, length2);
+        }
+    }
+
+    // Run 1 is the shorter one: copy it out and merge forwards
+    private void mergeLow(int[] array, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, buffer, 0, length1);
+        metrics.addAssignments(length1);
+
+        int i = 0, j = base2, k = base1;
+        int end1 = length1, end2 = base2 + length2;
+        int wins1 = 0, wins2 = 0;
+
+        while (i < end1 && j < end2) {
+            if (wins1 >= MIN_GALLOP) {
+                int count = gallopFromLeft(array[j], buffer, i, end1 - i, true);
+                System.arraycopy(buffer, i, array, k, count);
+                metrics.addAssignments(count);
+                i += count;
+                k += count;
+                wins1 = 0;
+                continue;
+            }
+            if (wins2 >= MIN_GALLOP) {
+                int count = gallopFromLeft(buffer[i], array, j, end2 - j, false);
+                System.arraycopy(array, j, array, k, count);
+                metrics.addAssignments(count);
+                j += count;
+                k += count;
+                wins2 = 0;
+                continue;
+            }
+
+            metrics.incrementComparisons();
+            if (array[j] < buffer[i]) {
+                array[k++] = array[j++];
+                wins2++;
+                wins1 = 0;
+            } else {
+                array[k++] = buffer[i++];
+                wins1++;
+                wins2 = 0;
+            }
+            metrics.incrementAssignments();
+        }
+
+        if (i < end1) {
+            System.arraycopy(buffer, i, array, k, end1 - i);
+            metrics.addAssignments(end1 - i);
+        }
+    }
+
+    // Run 2 is the shorter one: copy it out and merge backwards
+    private void mergeHigh(int[] array, int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, buffer, 0, length2);
+        metrics.addAssignments(length2);
+
+        int i = length2 - 1, j = base2 - 1, k = base2 + length2 - 1;
+        int wins1 = 0, wins2 = 0;
+
+        while (i >= 0 && j >= base1) {
+            if (wins1 >= MIN_GALLOP) {
+                int count = gallopFromRight(buffer[i], array, base1, j - base1 + 1, false);
+                System.arraycopy(array, j - count + 1, array, k - count + 1, count);
+                metrics.addAssignments(count);
+                j -= count;
+                k -= count;
+                wins1 = 0;
+                continue;
+            }
+            if (wins2 >= MIN_GALLOP) {
+                int count = gallopFromRight(array[j], buffer, 0, i + 1, true);
+                System.arraycopy(buffer, i - count + 1, array, k - count + 1, count);
+                metrics.addAssignments(count);
+                i -= count;
+                k -= count;
+                wins2 = 0;
+                continue;
+            }
+
+            metrics.incrementComparisons();
+            if (array[j] > buffer[i]) {
+                array[k--] = array[j--];
+                wins1++;
+                wins2 = 0;
+            } else {
+                array[k--] = buffer[i--];
+                wins2++;
+                wins1 = 0;
+            }
+            metrics.incrementAssignments();
+        }
+
+        if (i >= 0) {
+            System.arraycopy(buffer, 0, array, base1, i + 1);
+            metrics.addAssignments(i + 1);
+        }
+    }
+
+    // Number of leading elements of source[base, base + length) below key (or not above it when inclusive)
+    private int gallopFromLeft(int key, int[] source, int base, int length, boolean inclusive) {
+        int lastOffset = 0, offset = 1;
+        while (offset <= length && precedes(source[base + offset - 1], key, inclusive)) {
+            lastOffset = offset;
+            offset = offset < (Integer.MAX_VALUE >> 1) ? (offset << 1) + 1 : Integer.MAX_VALUE;
+        }
+
+        int low = lastOffset, high = Math.min(offset - 1, length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (precedes(source[base + mid], key, inclusive)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Number of trailing elements of source[base, base + length) above key (or not below it when inclusive)
+    private int gallopFromRight(int key, int[] source, int base, int length, boolean inclusive) {
+        int lastOffset = 0, offset = 1;
+        while (offset <= length && follows(source[base + length - offset], key, inclusive)) {
+            lastOffset = offset;
+            offset = offset < (Integer.MAX_VALUE >> 1) ? (offset << 1) + 1 : Integer.MAX_VALUE;
+        }
+
+        int low = lastOffset, high = Math.min(offset - 1, length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (follows(source[base + length - 1 - mid], key, inclusive)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean precedes(int value, int key, boolean inclusive) {
+        metrics.incrementComparisons();
+        return inclusive ? value <= key : value < key;
+    }
+
+    private boolean follows(int value, int key, boolean inclusive) {
+        metrics.incrementComparisons();
+        return inclusive ? value >= key : value > key;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public String getName() {
+        return adaptive ? "HybridMergeSort-ADAPTIVE" : "HybridMergeSort";
+    }
+
+    @Override
     public SortMetrics getMetrics() {
         return metrics;
     }
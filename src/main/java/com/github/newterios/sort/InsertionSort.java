@@ -2,24 +2,70 @@ package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
 
-public class InsertionSort {
+public class InsertionSort implements Sorter {
+    private static final int MAX_RECOMMENDED_SIZE = 10_000;
+
     private final SortMetrics metrics;
 
     public InsertionSort() {
-        this.metrics = new SortMetrics();
+        this(new SortMetrics());
+    }
+
+    public InsertionSort(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
     }
 
+    @Override
     public void sort(int[] array) {
         metrics.reset();
         if (array == null || array.length <= 1) {
             return;
         }
+        insertionSort(array, 0, array.length);
+    }
 
-        for (int i = 1; i < array.length; i++) {
+    @Override
+    public void sort(int[] array, int from, int to) {
+        metrics.reset();
+        RangeCheck.check(array, from, to);
+        insertionSort(array, from, to);
+    }
+
+    private void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
             int key = array[i];
             metrics.incrementAssignments();
             int j = i - 1;
 
+            while (j >= from) {
+                metrics.incrementComparisons();
+                if (array[j] > key) {
+                    array[j + 1] = array[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+            metrics.incrementAssignments();
+        }
+    }
+
+    public void sort(long[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        for (int i = 1; i < array.length; i++) {
+            long key = array[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
             while (j >= 0) {
                 metrics.incrementComparisons();
                 if (array[j] > key) {
@@ -35,7 +81,44 @@ public class InsertionSort {
         }
     }
 
+    public void sort(double[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int end = DoubleOrdering.moveNaNsToEnd(array);
+        int negativeZeros = DoubleOrdering.clearNegativeZeros(array, end);
+
+        for (int i = 1; i < end; i++) {
+            double key = array[i];
+            metrics.incrementAssignments();
+            int j = i - 1;
+
+            while (j >= 0) {
+                metrics.incrementComparisons();
+                if (array[j] > key) {
+                    array[j + 1] = array[j];
+                    metrics.incrementAssignments();
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+            metrics.incrementAssignments();
+        }
+
+        DoubleOrdering.restoreNegativeZeros(array, end, negativeZeros);
+    }
+
+    @Override
     public SortMetrics getMetrics() {
         return metrics;
     }
+
+    @Override
+    public int getMaxRecommendedSize() {
+        return MAX_RECOMMENDED_SIZE;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.github.newterios.sort;
+
+import java.io.IOException;
+
+// A sorted sequence read front to back by a k-way merge
+interface IntRun {
+
+    boolean hasCurrent();
+
+    int current();
+
+    boolean advance() throws IOException;
+}
@@ -0,0 +1,321 @@
+package com.github.newterios.sort;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+// KLL quantile sketch (Karnin, Lang & Liberty 2016). Level h holds items that each stand for 2^h inputs;
+// a full level is sorted and every other item is promoted, so memory stays near 3k items however long the stream.
+// Not thread-safe: build one sketch per thread and merge them.
+public class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+    public static final int MIN_K = 8;
+    public static final int MAX_K = 1 << 16;
+
+    private static final int MAGIC = 0x4B4C4C31; // "KLL1"
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    // Level weights are 2^level and must fit in a long
+    private static final int MAX_LEVELS = 62;
+
+    private final int k;
+    private final Random random;
+    private int[][] levels = new int[1][];
+    private int[] levelSizes = new int[1];
+    private int[] levelCapacities = new int[1];
+    private int levelCount = 1;
+    private int retained;
+    private int maxRetained;
+    private long n;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    public KllSketch(int k) {
+        this(k, new Random());
+    }
+
+    KllSketch(int k, Random random) {
+        if (k < MIN_K || k > MAX_K) {
+            throw new IllegalArgumentException("k must be between " + MIN_K + " and " + MAX_K);
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.k = k;
+        this.random = random;
+        updateCapacities();
+        levels[0] = new int[levelCapacities[0]];
+    }
+
+    public void add(int value) {
+        appendToLevel(0, value);
+        n++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    public void add(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        for (int value : values) {
+            add(value);
+        }
+    }
+
+    // Folds other into this sketch; other is left unchanged
+    public void merge(KllSketch other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Sketch cannot be null");
+        }
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k");
+        }
+        if (other.n == 0) {
+            return;
+        }
+
+        // Level sizes are snapshotted first: when other == this, appending grows the very level being read
+        int otherLevelCount = other.levelCount;
+        int[] otherSizes = Arrays.copyOf(other.levelSizes, otherLevelCount);
+        while (levelCount < otherLevelCount) {
+            addLevel();
+        }
+        for (int level = 0; level < otherLevelCount; level++) {
+            for (int i = 0; i < otherSizes[level]; i++) {
+                appendToLevel(level, other.levels[level][i]);
+            }
+        }
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        while (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    // Estimated number of inputs less than or equal to value
+    public long rank(int value) {
+        long rank = 0;
+        for (int level = 0; level < levelCount; level++) {
+            long weight = 1L << level;
+            for (int i = 0; i < levelSizes[level]; i++) {
+                if (levels[level][i] <= value) {
+                    rank += weight;
+                }
+            }
+        }
+        return rank;
+    }
+
+    // Nearest-rank quantile for q in [0, 1]; 0 and 1 return the exact minimum and maximum
+    public int quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (n == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+
+        // Each entry packs an item above its level so one sort orders items and keeps their weights
+        long[] entries = new long[retained];
+        int count = 0;
+        for (int level = 0; level < levelCount; level++) {
+            for (int i = 0; i < levelSizes[level]; i++) {
+                entries[count++] = ((long) levels[level][i] << 8) | level;
+            }
+        }
+        Arrays.sort(entries);
+
+        long target = Math.max(1, (long) Math.ceil(q * n));
+        long cumulative = 0;
+        for (long entry : entries) {
+            cumulative += 1L << (entry & 0xFF);
+            if (cumulative >= target) {
+                return (int) (entry >> 8);
+            }
+        }
+        return max;
+    }
+
+    public int[] quantiles(double... qs) {
+        if (qs == null) {
+            throw new IllegalArgumentException("Quantiles cannot be null");
+        }
+        int[] result = new int[qs.length];
+        for (int i = 0; i < qs.length; i++) {
+            result[i] = quantile(qs[i]);
+        }
+        return result;
+    }
+
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(getSerializedSizeBytes());
+        buffer.putInt(MAGIC).putInt(k).putLong(n).putInt(min).putInt(max).putInt(levelCount);
+        for (int level = 0; level < levelCount; level++) {
+            buffer.putInt(levelSizes[level]);
+            for (int i = 0; i < levelSizes[level]; i++) {
+                buffer.putInt(levels[level][i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static KllSketch fromByteArray(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a serialized KllSketch");
+            }
+            int k = buffer.getInt();
+            if (k < MIN_K || k > MAX_K) {
+                throw new IllegalArgumentException("Corrupt sketch: k " + k);
+            }
+            KllSketch sketch = new KllSketch(k);
+            long n = buffer.getLong();
+            int min = buffer.getInt();
+            int max = buffer.getInt();
+            int levelCount = buffer.getInt();
+            if (levelCount < 1 || levelCount > MAX_LEVELS) {
+                throw new IllegalArgumentException("Corrupt sketch: " + levelCount + " levels");
+            }
+            while (sketch.levelCount < levelCount) {
+                sketch.addLevel();
+            }
+
+            long weight = 0;
+            for (int level = 0; level < levelCount; level++) {
+                int size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining() / Integer.BYTES) {
+                    throw new IllegalArgumentException("Corrupt sketch: level " + level + " size " + size);
+                }
+                for (int i = 0; i < size; i++) {
+                    sketch.appendToLevel(level, buffer.getInt());
+                }
+                weight = Math.addExact(weight, Math.multiplyExact((long) size, 1L << level));
+            }
+
+            // Compaction preserves total weight, so the retained items must account for exactly n inputs
+            if (n != weight) {
+                throw new IllegalArgumentException("Corrupt sketch: n " + n + " does not match retained weight " + weight);
+            }
+            if (n > 0 && min > max) {
+                throw new IllegalArgumentException("Corrupt sketch: min " + min + " is greater than max " + max);
+            }
+            sketch.n = n;
+            sketch.min = min;
+            sketch.max = max;
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Corrupt sketch: truncated bytes", e);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Corrupt sketch: retained weight overflows", e);
+        }
+    }
+
+    public int getSerializedSizeBytes() {
+        return 5 * Integer.BYTES + Long.BYTES + (levelCount + retained) * Integer.BYTES;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    // Lower levels get geometrically less room, so most of the budget goes to the heavily weighted top
+    private int capacity(int level) {
+        int depth = levelCount - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void updateCapacities() {
+        maxRetained = 0;
+        for (int level = 0; level < levelCount; level++) {
+            levelCapacities[level] = capacity(level);
+            maxRetained += levelCapacities[level];
+        }
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+            levelSizes = Arrays.copyOf(levelSizes, levelCount * 2);
+            levelCapacities = Arrays.copyOf(levelCapacities, levelCount * 2);
+        }
+        levels[levelCount] = new int[MIN_LEVEL_CAPACITY];
+        levelCount++;
+        updateCapacities();
+    }
+
+    private void appendToLevel(int level, int value) {
+        int size = levelSizes[level];
+        if (size == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(MIN_LEVEL_CAPACITY, size * 2));
+        }
+        levels[level][size] = value;
+        levelSizes[level] = size + 1;
+        retained++;
+    }
+
+    // Compacts the lowest level that is over its capacity
+    private void compress() {
+        for (int level = 0; level < levelCount; level++) {
+            if (levelSizes[level] >= levelCapacities[level]) {
+                if (level + 1 == levelCount) {
+                    addLevel();
+                }
+                compact(level);
+                return;
+            }
+        }
+    }
+
+    // Sorts the level and promotes the items at a random parity; an odd item out stays behind
+    private void compact(int level) {
+        int[] items = levels[level];
+        int size = levelSizes[level];
+        Arrays.sort(items, 0, size);
+
+        int pairs = size / 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = 0; i < pairs; i++) {
+            appendToLevel(level + 1, items[2 * i + offset]);
+        }
+
+        int kept = size - 2 * pairs;
+        if (kept == 1) {
+            items[0] = items[size - 1];
+        }
+        levelSizes[level] = kept;
+        retained -= 2 * pairs;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.io.IOException;
+
+// Tournament tree for k-way merging: each step replays only the winner's leaf-to-root path,
+// one comparison per level, instead of a heap sift that compares both children per level
+final class LoserTree {
+    private final IntRun[] runs;
+    private final SortMetrics metrics;
+    // tree[0] is the current winner; tree[1..k) hold the loser of the match played at that node
+    private final int[] tree;
+
+    LoserTree(IntRun[] runs, SortMetrics metrics) {
+        if (runs.length == 0) {
+            throw new IllegalArgumentException("Need at least one run");
+        }
+        this.runs = runs;
+        this.metrics = metrics;
+        this.tree = new int[runs.length];
+
+        int k = runs.length;
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    boolean hasNext() {
+        return runs[tree[0]].hasCurrent();
+    }
+
+    int next() throws IOException {
+        int winner = tree[0];
+        int value = runs[winner].current();
+        runs[winner].advance();
+
+        for (int node = (winner + runs.length) >>> 1; node >= 1; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+
+    // Exhausted runs lose to everything; ties go to the lower index so merges stay stable
+    private boolean beats(int a, int b) {
+        if (!runs[a].hasCurrent()) {
+            return false;
+        }
+        if (!runs[b].hasCurrent()) {
+            return true;
+        }
+        metrics.incrementComparisons();
+        int first = runs[a].current();
+        int second = runs[b].current();
+        return first < second || (first == second && a < b);
+    }
+}
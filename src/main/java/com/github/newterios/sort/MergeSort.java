@@ -2,40 +2,79 @@ package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
 
-public class MergeSort {
+public class MergeSort implements Sorter, ScratchSorter {
     private final SortMetrics metrics;
     private int[] tempArray;
+    // Index in array that tempArray[0] stands for, so a range sort only needs to - from scratch slots
+    private int tempOffset;
 
     public MergeSort() {
-        this.metrics = new SortMetrics();
+        this(new SortMetrics());
     }
 
+    public MergeSort(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
     public void sort(int[] array) {
         metrics.reset();
         if (array == null || array.length <= 1) {
             return;
         }
 
-        tempArray = new int[array.length];
-        sort(array, 0, array.length - 1);
+        sortOwned(array, 0, array.length, new int[array.length]);
+    }
+
+    @Override
+    public void sort(int[] array, SortScratch scratch) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        sortOwned(array, 0, array.length, scratch.ints(array.length));
+    }
+
+    @Override
+    public void sort(int[] array, int from, int to) {
+        metrics.reset();
+        RangeCheck.check(array, from, to);
+        if (to - from > 1) {
+            sortOwned(array, from, to, new int[to - from]);
+        }
+    }
+
+    private void sortOwned(int[] array, int from, int to, int[] scratch) {
+        tempArray = scratch;
+        tempOffset = from;
+        try {
+            mergeSort(array, from, to - 1);
+        } finally {
+            // Dropped after the call, so the instance does not keep the scratch alive
+            tempArray = null;
+        }
     }
 
-    private void sort(int[] array, int left, int right) {
+    private void mergeSort(int[] array, int left, int right) {
         if (left < right) {
             int mid = left + (right - left) / 2;
-            sort(array, left, mid);
-            sort(array, mid + 1, right);
+            mergeSort(array, left, mid);
+            mergeSort(array, mid + 1, right);
             merge(array, left, mid, right);
         }
     }
 
     private void merge(int[] array, int left, int mid, int right) {
-        System.arraycopy(array, left, tempArray, left, right - left + 1);
+        System.arraycopy(array, left, tempArray, left - tempOffset, right - left + 1);
         metrics.addAssignments(right - left + 1);
 
-        int i = left, j = mid + 1, k = left;
+        int i = left - tempOffset, j = mid + 1 - tempOffset, k = left;
+        int leftEnd = mid - tempOffset, rightEnd = right - tempOffset;
 
-        while (i <= mid && j <= right) {
+        while (i <= leftEnd && j <= rightEnd) {
             metrics.incrementComparisons();
             if (tempArray[i] <= tempArray[j]) {
                 array[k] = tempArray[i];
@@ -49,7 +88,7 @@ public class MergeSort {
             k++;
         }
 
-        while (i <= mid) {
+        while (i <= leftEnd) {
             array[k] = tempArray[i];
             metrics.incrementAssignments();
             i++;
@@ -57,6 +96,102 @@ public class MergeSort {
         }
     }
 
+    public void sort(long[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        sort(array, new long[array.length], 0, array.length - 1);
+    }
+
+    public void sort(double[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int end = DoubleOrdering.moveNaNsToEnd(array);
+        int negativeZeros = DoubleOrdering.clearNegativeZeros(array, end);
+        sort(array, new double[end], 0, end - 1);
+        DoubleOrdering.restoreNegativeZeros(array, end, negativeZeros);
+    }
+
+    private void sort(long[] array, long[] temp, int left, int right) {
+        if (left < right) {
+            int mid = left + (right - left) / 2;
+            sort(array, temp, left, mid);
+            sort(array, temp, mid + 1, right);
+            merge(array, temp, left, mid, right);
+        }
+    }
+
+    private void merge(long[] array, long[] temp, int left, int mid, int right) {
+        System.arraycopy(array, left, temp, left, right - left + 1);
+        metrics.addAssignments(right - left + 1);
+
+        int i = left, j = mid + 1, k = left;
+
+        while (i <= mid && j <= right) {
+            metrics.incrementComparisons();
+            if (temp[i] <= temp[j]) {
+                array[k] = temp[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                array[k] = temp[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i <= mid) {
+            array[k] = temp[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    private void sort(double[] array, double[] temp, int left, int right) {
+        if (left < right) {
+            int mid = left + (right - left) / 2;
+            sort(array, temp, left, mid);
+            sort(array, temp, mid + 1, right);
+            merge(array, temp, left, mid, right);
+        }
+    }
+
+    private void merge(double[] array, double[] temp, int left, int mid, int right) {
+        System.arraycopy(array, left, temp, left, right - left + 1);
+        metrics.addAssignments(right - left + 1);
+
+        int i = left, j = mid + 1, k = left;
+
+        while (i <= mid && j <= right) {
+            metrics.incrementComparisons();
+            if (temp[i] <= temp[j]) {
+                array[k] = temp[i];
+                metrics.incrementAssignments();
+                i++;
+            } else {
+                array[k] = temp[j];
+                metrics.incrementAssignments();
+                j++;
+            }
+            k++;
+        }
+
+        while (i <= mid) {
+            array[k] = temp[i];
+            metrics.incrementAssignments();
+            i++;
+            k++;
+        }
+    }
+
+    @Override
     public SortMetrics getMetrics() {
         return metrics;
     }
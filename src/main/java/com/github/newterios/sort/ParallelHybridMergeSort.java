@@ -0,0 +1,219 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelHybridMergeSort implements Sorter {
+    private final SortMetrics metrics;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public ParallelHybridMergeSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelHybridMergeSort(ForkJoinPool pool) {
+        this(pool, TuningProfile.current().getParallelMergeThreshold());
+    }
+
+    public ParallelHybridMergeSort(ForkJoinPool pool, int parallelThreshold) {
+        this(new SortMetrics(), pool, parallelThreshold);
+    }
+
+    public ParallelHybridMergeSort(SortMetrics metrics, ForkJoinPool pool, int parallelThreshold) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("Parallel threshold must be at least 2");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        // Each task owns buffer[left..right], so concurrent halves never share scratch space
+        int[] buffer = new int[array.length];
+        SortTask task = new SortTask(array, buffer, 0, array.length - 1);
+        pool.invoke(task);
+        metrics.merge(task.metrics);
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    @Override
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] buffer;
+        private final int left;
+        private final int right;
+        private final SortMetrics metrics = ParallelHybridMergeSort.this.metrics.newLocal();
+
+        SortTask(int[] array, int[] buffer, int left, int right) {
+            this.array = array;
+            this.buffer = buffer;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected void compute() {
+            metrics.enterRecursion();
+            try {
+                if (right - left + 1 <= parallelThreshold) {
+                    HybridMergeSort leaf = new HybridMergeSort(metrics.newLocal());
+                    leaf.sortRange(array, left, right, buffer, left);
+                    metrics.merge(leaf.getMetrics());
+                    return;
+                }
+
+                int mid = left + (right - left) / 2;
+                SortTask leftTask = new SortTask(array, buffer, left, mid);
+                SortTask rightTask = new SortTask(array, buffer, mid + 1, right);
+                invokeAll(leftTask, rightTask);
+                metrics.merge(leftTask.metrics);
+                metrics.merge(rightTask.metrics);
+
+                System.arraycopy(array, left, buffer, left, right - left + 1);
+                metrics.addAssignments(right - left + 1);
+
+                MergeTask merge = new MergeTask(buffer, left, mid, mid + 1, right, array, left);
+                merge.compute();
+                metrics.merge(merge.metrics);
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
+    }
+
+    private final class MergeTask extends RecursiveAction {
+        private final int[] source;
+        private final int leftLow;
+        private final int leftHigh;
+        private final int rightLow;
+        private final int rightHigh;
+        private final int[] target;
+        private final int targetLow;
+        private final SortMetrics metrics = ParallelHybridMergeSort.this.metrics.newLocal();
+
+        MergeTask(int[] source, int leftLow, int leftHigh, int rightLow, int rightHigh, int[] target, int targetLow) {
+            this.source = source;
+            this.leftLow = leftLow;
+            this.leftHigh = leftHigh;
+            this.rightLow = rightLow;
+            this.rightHigh = rightHigh;
+            this.target = target;
+            this.targetLow = targetLow;
+        }
+
+        @Override
+        protected void compute() {
+            int leftSize = leftHigh - leftLow + 1;
+            int rightSize = rightHigh - rightLow + 1;
+
+            if (leftSize + rightSize <= parallelThreshold) {
+                sequentialMerge();
+                return;
+            }
+
+            MergeTask lower;
+            MergeTask upper;
+            if (leftSize >= rightSize) {
+                // Rounding up keeps both halves non-empty, so every split makes progress
+                int leftMid = (leftLow + leftHigh + 1) >>> 1;
+                int rightSplit = lowerBound(source, rightLow, rightHigh + 1, source[leftMid]);
+                lower = new MergeTask(source, leftLow, leftMid - 1, rightLow, rightSplit - 1,
+                        target, targetLow);
+                upper = new MergeTask(source, leftMid, leftHigh, rightSplit, rightHigh,
+                        target, targetLow + (leftMid - leftLow) + (rightSplit - rightLow));
+            } else {
+                int rightMid = (rightLow + rightHigh + 1) >>> 1;
+                int leftSplit = upperBound(source, leftLow, leftHigh + 1, source[rightMid]);
+                lower = new MergeTask(source, leftLow, leftSplit - 1, rightLow, rightMid - 1,
+                        target, targetLow);
+                upper = new MergeTask(source, leftSplit, leftHigh, rightMid, rightHigh,
+                        target, targetLow + (leftSplit - leftLow) + (rightMid - rightLow));
+            }
+
+            invokeAll(lower, upper);
+            metrics.merge(lower.metrics);
+            metrics.merge(upper.metrics);
+        }
+
+        private void sequentialMerge() {
+            int i = leftLow, j = rightLow, k = targetLow;
+
+            while (i <= leftHigh && j <= rightHigh) {
+                metrics.incrementComparisons();
+                if (source[i] <= source[j]) {
+                    target[k] = source[i];
+                    i++;
+                } else {
+                    target[k] = source[j];
+                    j++;
+                }
+                metrics.incrementAssignments();
+                k++;
+            }
+
+            int leftRemaining = leftHigh - i + 1;
+            if (leftRemaining > 0) {
+                System.arraycopy(source, i, target, k, leftRemaining);
+                metrics.addAssignments(leftRemaining);
+                k += leftRemaining;
+            }
+
+            int rightRemaining = rightHigh - j + 1;
+            if (rightRemaining > 0) {
+                System.arraycopy(source, j, target, k, rightRemaining);
+                metrics.addAssignments(rightRemaining);
+            }
+        }
+
+        // First index in [from, to) whose value is >= key
+        private int lowerBound(int[] array, int from, int to, int key) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                metrics.incrementComparisons();
+                if (array[mid] < key) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+
+        // First index in [from, to) whose value is > key
+        private int upperBound(int[] array, int from, int to, int key) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                metrics.incrementComparisons();
+                if (array[mid] <= key) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ParallelQuickSort implements Sorter {
+    private final SortMetrics metrics;
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool) {
+        this(pool, TuningProfile.current().getParallelQuickSortCutoff());
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool, int sequentialCutoff) {
+        this(new SortMetrics(), pool, sequentialCutoff);
+    }
+
+    public ParallelQuickSort(SortMetrics metrics, ForkJoinPool pool, int sequentialCutoff) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (sequentialCutoff < 2) {
+            throw new IllegalArgumentException("Sequential cutoff must be at least 2");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        SortTask task = new SortTask(array, 0, array.length - 1);
+        pool.invoke(task);
+        metrics.merge(task.metrics);
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    @Override
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int low;
+        private final int high;
+        private final SortMetrics metrics = ParallelQuickSort.this.metrics.newLocal();
+
+        SortTask(int[] array, int low, int high) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            metrics.enterRecursion();
+            try {
+                if (high - low + 1 <= sequentialCutoff) {
+                    // ThreadLocalRandom.current() belongs to the worker running this leaf, so no Random is shared
+                    QuickSort leaf = new QuickSort(metrics.newLocal(), QuickSort.Partitioning.THREE_WAY, true,
+                            ThreadLocalRandom.current());
+                    leaf.sortRange(array, low, high);
+                    metrics.merge(leaf.getMetrics());
+                    return;
+                }
+
+                int pivot = array[ThreadLocalRandom.current().nextInt(low, high + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                SortTask leftTask = new SortTask(array, low, lt - 1);
+                SortTask rightTask = new SortTask(array, gt + 1, high);
+                invokeAll(leftTask, rightTask);
+                metrics.merge(leftTask.metrics);
+                metrics.merge(rightTask.metrics);
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
+
+        private void swap(int i, int j) {
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+            metrics.addAssignments(3);
+        }
+    }
+}
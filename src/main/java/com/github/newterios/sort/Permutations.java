@@ -0,0 +1,58 @@
+package com.github.newterios.sort;
+
+import java.util.Arrays;
+
+// Applies a permutation from argsort to parallel columns: result[i] = column[permutation[i]]
+public final class Permutations {
+
+    private Permutations() {
+    }
+
+    public static int[] gather(int[] column, int[] permutation) {
+        checkLengths(column == null ? -1 : column.length, permutation);
+        int[] result = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = column[permutation[i]];
+        }
+        return result;
+    }
+
+    public static long[] gather(long[] column, int[] permutation) {
+        checkLengths(column == null ? -1 : column.length, permutation);
+        long[] result = new long[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = column[permutation[i]];
+        }
+        return result;
+    }
+
+    public static double[] gather(double[] column, int[] permutation) {
+        checkLengths(column == null ? -1 : column.length, permutation);
+        double[] result = new double[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = column[permutation[i]];
+        }
+        return result;
+    }
+
+    public static <T> T[] gather(T[] column, int[] permutation) {
+        checkLengths(column == null ? -1 : column.length, permutation);
+        T[] result = Arrays.copyOf(column, permutation.length);
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = column[permutation[i]];
+        }
+        return result;
+    }
+
+    private static void checkLengths(int columnLength, int[] permutation) {
+        if (columnLength < 0) {
+            throw new IllegalArgumentException("Column cannot be null");
+        }
+        if (permutation == null) {
+            throw new IllegalArgumentException("Permutation cannot be null");
+        }
+        if (columnLength != permutation.length) {
+            throw new IllegalArgumentException("Column and permutation must have the same length");
+        }
+    }
+}
@@ -1,38 +1,328 @@
 package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
+
+import java.util.Comparator;
 import java.util.Random;
 
-public class QuickSort {
+public class QuickSort implements Sorter {
+
+    public enum Partitioning {
+        LOMUTO,
+        // Dijkstra-style fat partition: keys equal to the pivot are grouped and never revisited
+        THREE_WAY,
+        // BlockQuicksort (Edelkamp & Weiss): comparison results are buffered as offsets so the scan has no data-dependent branch
+        BLOCK
+    }
+
+    private static final int BLOCK_SIZE = 128;
 
     private final SortMetrics metrics;
     private final Random random;
+    private final Partitioning partitioning;
+    private final boolean introsort;
+    private final int leafSize;
+    private final int[] leftOffsets;
+    private final int[] rightOffsets;
 
     public QuickSort() {
-        this.metrics = new SortMetrics();
-        this.random = new Random();
+        this(Partitioning.LOMUTO);
+    }
+
+    public QuickSort(Partitioning partitioning) {
+        this(partitioning, false);
+    }
+
+    public QuickSort(Partitioning partitioning, boolean introsort) {
+        this(new SortMetrics(), partitioning, introsort);
+    }
+
+    public QuickSort(SortMetrics metrics) {
+        this(metrics, Partitioning.LOMUTO, false);
+    }
+
+    public QuickSort(SortMetrics metrics, Partitioning partitioning, boolean introsort) {
+        this(metrics, partitioning, introsort, new Random());
+    }
+
+    QuickSort(SortMetrics metrics, Partitioning partitioning, boolean introsort, Random random) {
+        this(metrics, partitioning, introsort, random, TuningProfile.current().getQuickSortCutoff());
+    }
+
+    QuickSort(SortMetrics metrics, Partitioning partitioning, boolean introsort, Random random, int leafSize) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        if (partitioning == null) {
+            throw new IllegalArgumentException("Partitioning cannot be null");
+        }
+        if (!TuningProfile.isValidLeafCutoff(leafSize)) {
+            throw new IllegalArgumentException("Leaf size must be between 2 and " + SortingNetworks.MAX_SIZE);
+        }
+        this.metrics = metrics;
+        this.random = random;
+        this.partitioning = partitioning;
+        this.introsort = introsort;
+        this.leafSize = leafSize;
+        this.leftOffsets = partitioning == Partitioning.BLOCK ? new int[BLOCK_SIZE] : null;
+        this.rightOffsets = partitioning == Partitioning.BLOCK ? new int[BLOCK_SIZE] : null;
     }
 
+    @Override
     public void sort(int[] array) {
         metrics.reset();
         if (array == null || array.length <= 1) {
             return;
         }
-        quickSort(array, 0, array.length - 1);
+        sortRange(array, 0, array.length - 1);
     }
 
-    private void quickSort(int[] array, int low, int high) {
+    @Override
+    public void sort(int[] array, int from, int to) {
+        metrics.reset();
+        RangeCheck.check(array, from, to);
+        if (to - from > 1) {
+            sortRange(array, from, to - 1);
+        }
+    }
+
+    // Leaves the k smallest elements in sorted order in array[0, k); the rest end up in unspecified order.
+    // Parts that cannot reach the first k slots are never partitioned again, so the cost is O(n + k log k)
+    public void partialSort(int[] array, int k) {
+        metrics.reset();
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (k < 0 || k > array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length");
+        }
+        if (k == 0 || array.length <= 1) {
+            return;
+        }
+        partialQuickSort(array, 0, array.length - 1, k, depthBudget(array.length));
+    }
+
+    // Sorts array[low..high] without resetting metrics
+    void sortRange(int[] array, int low, int high) {
+        // Every partitioning step spends one unit, including the ones the loop takes on the larger side;
+        // without introsort the budget is too large to ever run out
+        sortRange(array, low, high, introsort ? depthBudget(high - low + 1) : Integer.MAX_VALUE);
+    }
+
+    private static int depthBudget(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    private void sortRange(int[] array, int low, int high, int depthBudget) {
+        if (partitioning == Partitioning.THREE_WAY) {
+            threeWayQuickSort(array, low, high, depthBudget);
+        } else if (partitioning == Partitioning.BLOCK) {
+            blockQuickSort(array, low, high, depthBudget);
+        } else {
+            quickSort(array, low, high, depthBudget);
+        }
+    }
+
+    // The typed overloads always partition three ways, so duplicate keys stay cheap; the introsort flag bounds depth as for int[]
+    public void sort(long[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        threeWayQuickSort(array, 0, array.length - 1, depthBudget(array.length));
+    }
+
+    public void sort(double[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int end = DoubleOrdering.moveNaNsToEnd(array);
+        int negativeZeros = DoubleOrdering.clearNegativeZeros(array, end);
+        threeWayQuickSort(array, 0, end - 1, depthBudget(end));
+        DoubleOrdering.restoreNegativeZeros(array, end, negativeZeros);
+    }
+
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        metrics.reset();
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        threeWayQuickSort(array, 0, array.length - 1, depthBudget(array.length), comparator);
+    }
+
+    private void quickSort(int[] array, int low, int high, int depthBudget) {
         metrics.enterRecursion();
         try {
             while (low < high) {
+                if (high - low < leafSize) {
+                    SortingNetworks.sort(array, low, high - low + 1, metrics);
+                    return;
+                }
+                if (depthBudget-- == 0) {
+                    heapSort(array, low, high);
+                    return;
+                }
+
                 int pivotIndex = randomizedPartition(array, low, high);
 
                 // Recurse on smaller partition, iterate on larger
                 if (pivotIndex - low < high - pivotIndex) {
-                    quickSort(array, low, pivotIndex - 1);
+                    quickSort(array, low, pivotIndex - 1, depthBudget);
+                    low = pivotIndex + 1;
+                } else {
+                    quickSort(array, pivotIndex + 1, high, depthBudget);
+                    high = pivotIndex - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void threeWayQuickSort(int[] array, int low, int high, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < leafSize) {
+                    SortingNetworks.sort(array, low, high - low + 1, metrics);
+                    return;
+                }
+                if (depthBudget-- == 0) {
+                    heapSort(array, low, high);
+                    return;
+                }
+
+                int pivot = array[low + random.nextInt(high - low + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(array, lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(array, i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    threeWayQuickSort(array, low, lt - 1, depthBudget);
+                    low = gt + 1;
+                } else {
+                    threeWayQuickSort(array, gt + 1, high, depthBudget);
+                    high = lt - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    // Always bounded: once the depth budget runs out the remaining prefix is finished by heap selection
+    private void partialQuickSort(int[] array, int low, int high, int k, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high && low < k) {
+                if (high - low < leafSize) {
+                    SortingNetworks.sort(array, low, high - low + 1, metrics);
+                    return;
+                }
+                if (depthBudget-- == 0) {
+                    heapSelect(array, low, high, k);
+                    return;
+                }
+
+                int pivot = array[low + random.nextInt(high - low + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(array, lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(array, i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (k <= lt) {
+                    // Everything at or above the pivot block lies past the first k slots
+                    high = lt - 1;
+                } else {
+                    // The whole lower part is inside the prefix, and the pivot block is already in place
+                    // Three-way with the remaining budget whatever the configured strategy, so duplicates and bad pivots stay bounded
+                    if (lt - 1 > low) {
+                        threeWayQuickSort(array, low, lt - 1, depthBudget);
+                    }
+                    low = gt + 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    // Keeps a max-heap of the k - low smallest values seen in array[low, k), then sorts it in place
+    private void heapSelect(int[] array, int low, int high, int k) {
+        int heapSize = k - low;
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, heapSize);
+        }
+        for (int i = k; i <= high; i++) {
+            metrics.incrementComparisons();
+            if (array[i] < array[low]) {
+                swap(array, i, low);
+                siftDown(array, low, 0, heapSize);
+            }
+        }
+        for (int end = heapSize - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void blockQuickSort(int[] array, int low, int high, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (high - low < leafSize) {
+                    SortingNetworks.sort(array, low, high - low + 1, metrics);
+                    return;
+                }
+                if (depthBudget-- == 0) {
+                    heapSort(array, low, high);
+                    return;
+                }
+
+                swap(array, low + random.nextInt(high - low + 1), high);
+                int pivotIndex = blockPartition(array, low, high);
+
+                if (pivotIndex - low < high - pivotIndex) {
+                    blockQuickSort(array, low, pivotIndex - 1, depthBudget);
                     low = pivotIndex + 1;
                 } else {
-                    quickSort(array, pivotIndex + 1, high);
+                    blockQuickSort(array, pivotIndex + 1, high, depthBudget);
                     high = pivotIndex - 1;
                 }
             }
@@ -41,6 +331,76 @@ public class QuickSort {
         }
     }
 
+    // Pivot sits at array[high]; returns its final index with [low, result) <= pivot <= (result, high]
+    private int blockPartition(int[] array, int low, int high) {
+        int pivot = array[high];
+        int left = low, right = high - 1;
+        int leftStart = 0, leftCount = 0, rightStart = 0, rightCount = 0;
+
+        // Invariant: [low, left) <= pivot and (right, high) >= pivot
+        while (right - left + 1 > 2 * BLOCK_SIZE) {
+            if (leftCount == 0) {
+                leftStart = 0;
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    leftOffsets[leftCount] = i;
+                    leftCount += array[left + i] >= pivot ? 1 : 0;
+                }
+                metrics.addComparisons(BLOCK_SIZE);
+            }
+            if (rightCount == 0) {
+                rightStart = 0;
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    rightOffsets[rightCount] = i;
+                    rightCount += array[right - i] <= pivot ? 1 : 0;
+                }
+                metrics.addComparisons(BLOCK_SIZE);
+            }
+
+            int count = Math.min(leftCount, rightCount);
+            for (int i = 0; i < count; i++) {
+                int leftIndex = left + leftOffsets[leftStart + i];
+                int rightIndex = right - rightOffsets[rightStart + i];
+                int temp = array[leftIndex];
+                array[leftIndex] = array[rightIndex];
+                array[rightIndex] = temp;
+            }
+            metrics.addAssignments(3L * count);
+
+            leftCount -= count;
+            rightCount -= count;
+            leftStart += count;
+            rightStart += count;
+            if (leftCount == 0) {
+                left += BLOCK_SIZE;
+            }
+            if (rightCount == 0) {
+                right -= BLOCK_SIZE;
+            }
+        }
+
+        // Fewer than two blocks remain (plus any half-consumed block); a Hoare scan settles them
+        while (true) {
+            while (left <= right && array[left] < pivot) {
+                metrics.incrementComparisons();
+                left++;
+            }
+            while (left <= right && array[right] > pivot) {
+                metrics.incrementComparisons();
+                right--;
+            }
+            metrics.addComparisons(2);
+            if (left >= right) {
+                break;
+            }
+            swap(array, left, right);
+            left++;
+            right--;
+        }
+
+        swap(array, left, high);
+        return left;
+    }
+
     private int randomizedPartition(int[] array, int low, int high) {
         int randomIndex = low + random.nextInt(high - low + 1);
         swap(array, randomIndex, high);
@@ -62,15 +422,437 @@ public class QuickSort {
         return i + 1;
     }
 
+    private void heapSort(int[] array, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    // Max-heap rooted at array[offset] holding heapSize elements
+    private void siftDown(int[] array, int offset, int root, int heapSize) {
+        int value = array[offset + root];
+        metrics.incrementAssignments();
+
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize) {
+                metrics.incrementComparisons();
+                if (array[offset + child + 1] > array[offset + child]) {
+                    child++;
+                }
+            }
+            metrics.incrementComparisons();
+            if (array[offset + child] <= value) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            metrics.incrementAssignments();
+            root = child;
+        }
+        array[offset + root] = value;
+        metrics.incrementAssignments();
+    }
+
     private void swap(int[] array, int i, int j) {
         int temp = array[i];
         array[i] = array[j];
         array[j] = temp;
+        metrics.addAssignments(3); // 3 assignments per swap
+    }
+
+    private void threeWayQuickSort(long[] array, int low, int high, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (introsort && depthBudget-- == 0) {
+                    heapSort(array, low, high);
+                    return;
+                }
+
+                long pivot = array[low + random.nextInt(high - low + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(array, lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(array, i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    threeWayQuickSort(array, low, lt - 1, depthBudget);
+                    low = gt + 1;
+                } else {
+                    threeWayQuickSort(array, gt + 1, high, depthBudget);
+                    high = lt - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void heapSort(long[] array, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(long[] array, int offset, int root, int heapSize) {
+        long value = array[offset + root];
+        metrics.incrementAssignments();
+
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize) {
+                metrics.incrementComparisons();
+                if (array[offset + child + 1] > array[offset + child]) {
+                    child++;
+                }
+            }
+            metrics.incrementComparisons();
+            if (!(array[offset + child] > value)) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            metrics.incrementAssignments();
+            root = child;
+        }
+        array[offset + root] = value;
+        metrics.incrementAssignments();
+    }
+
+    private void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        metrics.addAssignments(3);
+    }
+
+    private void threeWayQuickSort(double[] array, int low, int high, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (introsort && depthBudget-- == 0) {
+                    heapSort(array, low, high);
+                    return;
+                }
+
+                double pivot = array[low + random.nextInt(high - low + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(array, lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(array, i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    threeWayQuickSort(array, low, lt - 1, depthBudget);
+                    low = gt + 1;
+                } else {
+                    threeWayQuickSort(array, gt + 1, high, depthBudget);
+                    high = lt - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void heapSort(double[] array, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(double[] array, int offset, int root, int heapSize) {
+        double value = array[offset + root];
+        metrics.incrementAssignments();
+
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize) {
+                metrics.incrementComparisons();
+                if (array[offset + child + 1] > array[offset + child]) {
+                    child++;
+                }
+            }
+            metrics.incrementComparisons();
+            if (!(array[offset + child] > value)) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            metrics.incrementAssignments();
+            root = child;
+        }
+        array[offset + root] = value;
+        metrics.incrementAssignments();
+    }
+
+    private void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        metrics.addAssignments(3);
+    }
+
+    private <T> void threeWayQuickSort(T[] array, int low, int high, int depthBudget, Comparator<? super T> comparator) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (introsort && depthBudget-- == 0) {
+                    heapSort(array, low, high, comparator);
+                    return;
+                }
+
+                T pivot = array[low + random.nextInt(high - low + 1)];
+                int lt = low, i = low, gt = high;
+
+                // Invariant: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (comparator.compare(array[i], pivot) < 0) {
+                        swap(array, lt, i);
+                        lt++;
+                        i++;
+                    } else {
+                        metrics.incrementComparisons();
+                        if (comparator.compare(array[i], pivot) > 0) {
+                            swap(array, i, gt);
+                            gt--;
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    threeWayQuickSort(array, low, lt - 1, depthBudget, comparator);
+                    low = gt + 1;
+                } else {
+                    threeWayQuickSort(array, gt + 1, high, depthBudget, comparator);
+                    high = lt - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private <T> void heapSort(T[] array, int low, int high, Comparator<? super T> comparator) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n, comparator);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end, comparator);
+        }
+    }
+
+    private <T> void siftDown(T[] array, int offset, int root, int heapSize, Comparator<? super T> comparator) {
+        T value = array[offset + root];
         metrics.incrementAssignments();
+
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize) {
+                metrics.incrementComparisons();
+                if (comparator.compare(array[offset + child + 1], array[offset + child]) > 0) {
+                    child++;
+                }
+            }
+            metrics.incrementComparisons();
+            if (!(comparator.compare(array[offset + child], value) > 0)) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            metrics.incrementAssignments();
+            root = child;
+        }
+        array[offset + root] = value;
         metrics.incrementAssignments();
-        metrics.incrementAssignments(); // 3 assignments per swap
     }
 
+    private <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        metrics.addAssignments(3);
+    }
+
+    // Permutation of indices into keys, ascending by key; not stable, and keys itself is left untouched
+    public int[] argsort(int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+
+        int[] permutation = new int[keys.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+        sort(keys.clone(), permutation);
+        return permutation;
+    }
+
+    // Sorts keys and applies the same reordering to values; uses three-way partitioning so duplicate keys stay cheap
+    public void sort(int[] keys, int[] values) {
+        metrics.reset();
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("Keys and values cannot be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length");
+        }
+        if (keys.length <= 1) {
+            return;
+        }
+        threeWayQuickSort(keys, values, 0, keys.length - 1, depthBudget(keys.length));
+    }
+
+    private void threeWayQuickSort(int[] keys, int[] values, int low, int high, int depthBudget) {
+        metrics.enterRecursion();
+        try {
+            while (low < high) {
+                if (introsort && depthBudget-- == 0) {
+                    heapSort(keys, values, low, high);
+                    return;
+                }
+
+                swap(keys, values, low + random.nextInt(high - low + 1), low);
+                int pivot = keys[low];
+                int lt = low, i = low + 1, gt = high;
+
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (keys[i] < pivot) {
+                        swap(keys, values, lt++, i++);
+                    } else {
+                        metrics.incrementComparisons();
+                        if (keys[i] > pivot) {
+                            swap(keys, values, i, gt--);
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                if (lt - low < high - gt) {
+                    threeWayQuickSort(keys, values, low, lt - 1, depthBudget);
+                    low = gt + 1;
+                } else {
+                    threeWayQuickSort(keys, values, gt + 1, high, depthBudget);
+                    high = lt - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void heapSort(int[] keys, int[] values, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, values, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, values, low, low + end);
+            siftDown(keys, values, low, 0, end);
+        }
+    }
+
+    // Moves the key and its value together, so the pairing survives the fallback
+    private void siftDown(int[] keys, int[] values, int offset, int root, int heapSize) {
+        int key = keys[offset + root];
+        int value = values[offset + root];
+        metrics.addAssignments(2);
+
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize) {
+                metrics.incrementComparisons();
+                if (keys[offset + child + 1] > keys[offset + child]) {
+                    child++;
+                }
+            }
+            metrics.incrementComparisons();
+            if (keys[offset + child] <= key) {
+                break;
+            }
+            keys[offset + root] = keys[offset + child];
+            values[offset + root] = values[offset + child];
+            metrics.addAssignments(2);
+            root = child;
+        }
+        keys[offset + root] = key;
+        values[offset + root] = value;
+        metrics.addAssignments(2);
+    }
+
+    private void swap(int[] keys, int[] values, int i, int j) {
+        int temp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = temp;
+        temp = values[i];
+        values[i] = values[j];
+        values[j] = temp;
+        metrics.addAssignments(6); // 3 per array
+    }
+
+    public Partitioning getPartitioning() {
+        return partitioning;
+    }
+
+    public boolean isIntrosort() {
+        return introsort;
+    }
+
+    @Override
+    public String getName() {
+        String name = partitioning == Partitioning.LOMUTO ? "QuickSort" : "QuickSort-" + partitioning;
+        return introsort ? name + "-INTROSORT" : name;
+    }
+
+    @Override
     public SortMetrics getMetrics() {
         return metrics;
     }
@@ -0,0 +1,97 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.util.Arrays;
+
+public class RadixSort implements Sorter {
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int PASSES = Integer.SIZE / DIGIT_BITS;
+
+    private final SortMetrics metrics;
+    private final int[] counts = new int[PASSES * RADIX];
+    private int[] scratch = new int[0];
+
+    public RadixSort() {
+        this(new SortMetrics());
+    }
+
+    public RadixSort(SortMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics cannot be null");
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sort(int[] array) {
+        metrics.reset();
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int n = array.length;
+        if (scratch.length < n) {
+            scratch = new int[n];
+        }
+
+        countDigits(array);
+
+        int[] source = array;
+        int[] target = scratch;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int offset = pass * RADIX;
+            int shift = pass * DIGIT_BITS;
+
+            // Every key shares this digit, so the pass would only copy
+            if (counts[offset + digit(source[0], pass, shift)] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int d = offset; d < offset + RADIX; d++) {
+                int count = counts[d];
+                counts[d] = sum;
+                sum += count;
+            }
+
+            for (int i = 0; i < n; i++) {
+                int value = source[i];
+                target[counts[offset + digit(value, pass, shift)]++] = value;
+            }
+            metrics.addAssignments(n);
+
+            int[] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+            metrics.addAssignments(n);
+        }
+    }
+
+    // One read of the input builds the histograms for all passes
+    private void countDigits(int[] array) {
+        Arrays.fill(counts, 0);
+        for (int value : array) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass * RADIX + digit(value, pass, pass * DIGIT_BITS)]++;
+            }
+        }
+    }
+
+    // The sign bit is flipped on the most significant digit so negatives order before positives
+    private static int digit(int value, int pass, int shift) {
+        int digit = (value >>> shift) & DIGIT_MASK;
+        return pass == PASSES - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+
+    @Override
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.newterios.sort;
+
+// Shared argument checks for sort(array, from, to): from inclusive, to exclusive, as in Arrays.sort
+final class RangeCheck {
+
+    private RangeCheck() {
+    }
+
+    static void check(int[] array, int from, int to) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (from < 0 || to > array.length || from > to) {
+            throw new IllegalArgumentException(
+                    "Invalid range [" + from + ", " + to + ") for array of length " + array.length);
+        }
+    }
+}
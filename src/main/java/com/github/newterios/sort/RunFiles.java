@@ -0,0 +1,157 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Spilled runs on disk: big-endian 32-bit ints, shared by ExternalMergeSort and StreamingSorter
+final class RunFiles {
+
+    private RunFiles() {
+    }
+
+    static void write(Path target, int[] values, int count, int bufferBytes, SortMetrics metrics) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(bufferBytes);
+        IntBuffer ints = bytes.asIntBuffer();
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int offset = 0;
+            while (offset < count) {
+                int batch = Math.min(ints.capacity(), count - offset);
+                ints.clear();
+                ints.put(values, offset, batch);
+                bytes.clear().limit(batch * Integer.BYTES);
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                offset += batch;
+            }
+        }
+        metrics.addAssignments(count);
+    }
+
+    static void merge(List<Path> runs, Path target, int bufferBytes, SortMetrics metrics) throws IOException {
+        Reader[] readers = new Reader[runs.size()];
+        try (Writer writer = new Writer(target, bufferBytes)) {
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new Reader(runs.get(i), bufferBytes);
+            }
+
+            LoserTree tree = new LoserTree(readers, metrics);
+            while (tree.hasNext()) {
+                writer.write(tree.next());
+                metrics.incrementAssignments();
+            }
+        } finally {
+            closeAll(readers);
+        }
+    }
+
+    static void closeAll(Reader[] readers) throws IOException {
+        for (Reader reader : readers) {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+    static void deleteAll(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    static final class Reader implements IntRun, AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+        private boolean hasCurrent;
+        private int current;
+
+        Reader(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.bytes = ByteBuffer.allocate(bufferBytes);
+            this.bytes.flip();
+            advance();
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return hasCurrent;
+        }
+
+        @Override
+        public int current() {
+            return current;
+        }
+
+        @Override
+        public boolean advance() throws IOException {
+            if (bytes.remaining() < Integer.BYTES && !refill()) {
+                hasCurrent = false;
+                return false;
+            }
+            current = bytes.getInt();
+            hasCurrent = true;
+            return true;
+        }
+
+        private boolean refill() throws IOException {
+            bytes.compact();
+            while (bytes.position() < Integer.BYTES) {
+                if (channel.read(bytes) < 0) {
+                    break;
+                }
+            }
+            bytes.flip();
+            return bytes.remaining() >= Integer.BYTES;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+
+        Writer(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.bytes = ByteBuffer.allocate(bufferBytes);
+        }
+
+        void write(int value) throws IOException {
+            if (bytes.remaining() < Integer.BYTES) {
+                flush();
+            }
+            bytes.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            bytes.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
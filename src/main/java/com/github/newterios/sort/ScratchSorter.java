@@ -0,0 +1,7 @@
+package com.github.newterios.sort;
+
+// Engines that can merge through caller-owned scratch instead of allocating their own per call
+interface ScratchSorter {
+
+    void sort(int[] array, SortScratch scratch);
+}
@@ -0,0 +1,15 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+public interface Selector {
+
+    // Returns the k-th smallest element (0-based); the array is reordered in place
+    int select(int[] array, int k);
+
+    SortMetrics getMetrics();
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.newterios.sort;
+
+// Grow-only merge scratch owned by a caller that sorts repeatedly, such as SortSession. Engines only borrow
+// it for the length of one call, so a plain Sorter never pins a buffer sized to the largest input it saw
+final class SortScratch {
+    private int[] ints = new int[0];
+
+    int[] ints(int size) {
+        if (ints.length < size) {
+            ints = new int[size];
+        }
+        return ints;
+    }
+}
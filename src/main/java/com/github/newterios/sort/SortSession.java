@@ -0,0 +1,40 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+// One sorter per thread with metrics disabled. The session owns a grow-only merge scratch and lends it to
+// engines that accept one, so once warmed up to the largest array size a thread sorts, further sort calls
+// allocate nothing. The scratch lives as long as the session. Not thread-safe: use current()
+public final class SortSession {
+    private static final ThreadLocal<SortSession> CURRENT = ThreadLocal.withInitial(SortSession::new);
+
+    private final Sorter sorter;
+    private final SortScratch scratch = new SortScratch();
+
+    public SortSession() {
+        this(new HybridMergeSort(SortMetrics.noOp()));
+    }
+
+    public SortSession(Sorter sorter) {
+        if (sorter == null) {
+            throw new IllegalArgumentException("Sorter cannot be null");
+        }
+        this.sorter = sorter;
+    }
+
+    public static SortSession current() {
+        return CURRENT.get();
+    }
+
+    public void sort(int[] array) {
+        if (sorter instanceof ScratchSorter scratchSorter) {
+            scratchSorter.sort(array, scratch);
+        } else {
+            sorter.sort(array);
+        }
+    }
+
+    public Sorter getSorter() {
+        return sorter;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+// Times each candidate cutoff on this host and keeps the fastest; metrics are disabled while timing
+public final class SortTuner {
+    private static final int[] LEAF_CANDIDATES = {4, 6, 8, 10, 12, 14, 16};
+    private static final int[] PARALLEL_CANDIDATES = {1 << 10, 1 << 11, 1 << 12, 1 << 13, 1 << 14, 1 << 15, 1 << 16};
+
+    private final int leafArraySize;
+    private final int parallelArraySize;
+    private final int warmupRounds;
+    private final int measuredRounds;
+
+    public SortTuner() {
+        this(1 << 16, 1 << 21, 5, 10);
+    }
+
+    public SortTuner(int leafArraySize, int parallelArraySize, int warmupRounds, int measuredRounds) {
+        if (leafArraySize < 2 || parallelArraySize < 2) {
+            throw new IllegalArgumentException("Array sizes must be at least 2");
+        }
+        if (warmupRounds < 0 || measuredRounds < 1) {
+            throw new IllegalArgumentException("Need at least one measured round");
+        }
+        this.leafArraySize = leafArraySize;
+        this.parallelArraySize = parallelArraySize;
+        this.warmupRounds = warmupRounds;
+        this.measuredRounds = measuredRounds;
+    }
+
+    public TuningProfile tune() {
+        int[] leafSource = ArrayGenerator.generateRandomArray(leafArraySize, 0, Integer.MAX_VALUE - 1);
+        int[] parallelSource = ArrayGenerator.generateRandomArray(parallelArraySize, 0, Integer.MAX_VALUE - 1);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        int mergeSortCutoff = fastest(LEAF_CANDIDATES, leafSource,
+                cutoff -> new HybridMergeSort(SortMetrics.noOp(), false, cutoff));
+        int quickSortCutoff = fastest(LEAF_CANDIDATES, leafSource,
+                cutoff -> new QuickSort(SortMetrics.noOp(), QuickSort.Partitioning.LOMUTO, false, new Random(), cutoff));
+        int parallelMergeThreshold = fastest(PARALLEL_CANDIDATES, parallelSource,
+                threshold -> new ParallelHybridMergeSort(SortMetrics.noOp(), pool, threshold));
+        int parallelQuickSortCutoff = fastest(PARALLEL_CANDIDATES, parallelSource,
+                cutoff -> new ParallelQuickSort(SortMetrics.noOp(), pool, cutoff));
+
+        return new TuningProfile(mergeSortCutoff, quickSortCutoff, parallelMergeThreshold, parallelQuickSortCutoff);
+    }
+
+    // Candidates are interleaved within each round so JIT warm-up and thermal drift hit all of them alike
+    private int fastest(int[] candidates, int[] source, IntFunction<Sorter> factory) {
+        Sorter[] sorters = new Sorter[candidates.length];
+        long[] bestNanos = new long[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            sorters[i] = factory.apply(candidates[i]);
+            bestNanos[i] = Long.MAX_VALUE;
+        }
+
+        int[] array = new int[source.length];
+        for (int round = 0; round < warmupRounds + measuredRounds; round++) {
+            for (int i = 0; i < candidates.length; i++) {
+                System.arraycopy(source, 0, array, 0, source.length);
+                long start = System.nanoTime();
+                sorters[i].sort(array);
+                long elapsed = System.nanoTime() - start;
+                if (round >= warmupRounds) {
+                    bestNanos[i] = Math.min(bestNanos[i], elapsed);
+                }
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < candidates.length; i++) {
+            if (bestNanos[i] < bestNanos[best]) {
+                best = i;
+            }
+        }
+        return candidates[best];
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.util.Arrays;
+
+public interface Sorter {
+
+    void sort(int[] array);
+
+    SortMetrics getMetrics();
+
+    // Sorts array[from, to); engines that can work on a sub-range in place override this, the default sorts a copy
+    default void sort(int[] array, int from, int to) {
+        RangeCheck.check(array, from, to);
+        int[] range = Arrays.copyOfRange(array, from, to);
+        sort(range);
+        System.arraycopy(range, 0, array, from, range.length);
+    }
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    // Quadratic engines override this so harnesses can skip sizes they would stall on
+    default int getMaxRecommendedSize() {
+        return Integer.MAX_VALUE;
+    }
+}
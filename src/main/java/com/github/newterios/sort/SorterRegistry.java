@@ -0,0 +1,47 @@
+package com.github.newterios.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+public final class SorterRegistry {
+    private static final Map<String, ServiceLoader.Provider<Sorter>> PROVIDERS = loadProviders();
+
+    private SorterRegistry() {
+    }
+
+    private static Map<String, ServiceLoader.Provider<Sorter>> loadProviders() {
+        Map<String, ServiceLoader.Provider<Sorter>> providers = new LinkedHashMap<>();
+        ServiceLoader.load(Sorter.class, Sorter.class.getClassLoader())
+                .stream()
+                .forEach(provider -> providers.putIfAbsent(provider.get().getName(), provider));
+        return Collections.unmodifiableMap(providers);
+    }
+
+    public static List<String> getNames() {
+        return new ArrayList<>(PROVIDERS.keySet());
+    }
+
+    public static boolean contains(String name) {
+        return PROVIDERS.containsKey(name);
+    }
+
+    public static Sorter create(String name) {
+        ServiceLoader.Provider<Sorter> provider = PROVIDERS.get(name);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown sorter: " + name + " (available: " + PROVIDERS.keySet() + ")");
+        }
+        return provider.get();
+    }
+
+    public static List<Sorter> createAll() {
+        List<Sorter> sorters = new ArrayList<>();
+        for (ServiceLoader.Provider<Sorter> provider : PROVIDERS.values()) {
+            sorters.add(provider.get());
+        }
+        return sorters;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.newterios.sort;
+
+// ServiceLoader can only call a public no-arg constructor, so each configured variant that should be
+// discoverable by name gets a small subclass here and a line in META-INF/services
+public final class SorterVariants {
+
+    private SorterVariants() {
+    }
+
+    public static final class QuickSortThreeWay extends QuickSort {
+        public QuickSortThreeWay() {
+            super(Partitioning.THREE_WAY);
+        }
+    }
+
+    public static final class QuickSortBlock extends QuickSort {
+        public QuickSortBlock() {
+            super(Partitioning.BLOCK);
+        }
+    }
+
+    public static final class QuickSortIntrosort extends QuickSort {
+        public QuickSortIntrosort() {
+            super(Partitioning.LOMUTO, true);
+        }
+    }
+
+    public static final class AdaptiveHybridMergeSort extends HybridMergeSort {
+        public AdaptiveHybridMergeSort() {
+            super(true);
+        }
+    }
+}
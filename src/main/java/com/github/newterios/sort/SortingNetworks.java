@@ -0,0 +1,120 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+// Fixed comparator sequences for 2..16 elements; each compare-exchange is a Math.min/Math.max pair,
+// which the JIT compiles to conditional moves instead of branches
+final class SortingNetworks {
+    static final int MAX_SIZE = 16;
+
+    // NETWORKS[n - 2] holds the (low, high) channel pairs for n inputs. Sizes up to 12 and 16 are the
+    // best known networks; 13 to 15 are pruned from the 16-input one by pinning the top channels to +infinity
+    private static final int[][] NETWORKS = {
+            // 2 inputs, 1 comparator
+            {
+                0, 1
+            },
+            // 3 inputs, 3 comparators
+            {
+                1, 2, 0, 2, 0, 1
+            },
+            // 4 inputs, 5 comparators
+            {
+                0, 1, 2, 3, 0, 2, 1, 3, 1, 2
+            },
+            // 5 inputs, 9 comparators
+            {
+                0, 3, 1, 4, 0, 2, 1, 3, 0, 1, 2, 4, 1, 2, 3, 4, 2, 3
+            },
+            // 6 inputs, 12 comparators
+            {
+                0, 5, 1, 3, 2, 4, 1, 2, 3, 4, 0, 3, 2, 5, 0, 1, 2, 3, 4, 5, 1, 2, 3, 4
+            },
+            // 7 inputs, 16 comparators
+            {
+                0, 6, 2, 3, 4, 5, 0, 2, 1, 4, 3, 6, 0, 1, 2, 5, 3, 4, 1, 2, 4, 6, 2, 3, 4, 5, 1, 2, 3, 4, 5, 6
+            },
+            // 8 inputs, 19 comparators
+            {
+                0, 2, 1, 3, 4, 6, 5, 7, 0, 4, 1, 5, 2, 6, 3, 7, 0, 1, 2, 3, 4, 5, 6, 7, 2, 4, 3, 5, 1, 4, 3, 6,
+                1, 2, 3, 4, 5, 6
+            },
+            // 9 inputs, 25 comparators
+            {
+                0, 3, 1, 7, 2, 5, 4, 8, 0, 7, 2, 4, 3, 8, 5, 6, 0, 2, 1, 3, 4, 5, 7, 8, 1, 4, 3, 6, 5, 7, 0, 1,
+                2, 4, 3, 5, 6, 8, 2, 3, 4, 5, 6, 7, 1, 2, 3, 4, 5, 6
+            },
+            // 10 inputs, 29 comparators
+            {
+                0, 8, 1, 9, 2, 7, 3, 5, 4, 6, 0, 2, 1, 4, 5, 8, 7, 9, 0, 3, 2, 4, 5, 7, 6, 9, 0, 1, 3, 6, 8, 9,
+                1, 5, 2, 3, 4, 8, 6, 7, 1, 2, 3, 5, 4, 6, 7, 8, 2, 3, 4, 5, 6, 7, 3, 4, 5, 6
+            },
+            // 11 inputs, 35 comparators
+            {
+                0, 9, 1, 6, 2, 4, 3, 7, 5, 8, 0, 1, 3, 5, 4, 10, 6, 9, 7, 8, 1, 3, 2, 5, 4, 7, 8, 10, 0, 4, 1,
+                2, 3, 7, 5, 9, 6, 8, 0, 1, 2, 6, 4, 5, 7, 8, 9, 10, 2, 4, 3, 6, 5, 7, 8, 9, 1, 2, 3, 4, 5, 6,
+                7, 8, 2, 3, 4, 5, 6, 7
+            },
+            // 12 inputs, 39 comparators
+            {
+                0, 8, 1, 7, 2, 6, 3, 11, 4, 10, 5, 9, 0, 1, 2, 5, 3, 4, 6, 9, 7, 8, 10, 11, 0, 2, 1, 6, 5, 10,
+                9, 11, 0, 3, 1, 2, 4, 6, 5, 7, 8, 11, 9, 10, 1, 4, 3, 5, 6, 8, 7, 10, 1, 3, 2, 5, 6, 9, 8, 10,
+                2, 3, 4, 5, 6, 7, 8, 9, 4, 6, 5, 7, 3, 4, 5, 6, 7, 8
+            },
+            // 13 inputs, 46 comparators
+            {
+                1, 12, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 11, 12, 0, 1, 2, 3, 4, 5, 6, 8, 7, 9,
+                10, 11, 0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 1, 4, 2,
+                6, 5, 8, 7, 10, 2, 4, 3, 6, 9, 12, 3, 5, 6, 8, 7, 9, 10, 12, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+                6, 7, 8, 9
+            },
+            // 14 inputs, 51 comparators
+            {
+                0, 13, 1, 12, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 11, 12, 0, 1, 2, 3, 4,
+                5, 6, 8, 7, 9, 10, 11, 12, 13, 0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 1, 2, 3, 12, 4, 6, 5, 7,
+                8, 10, 9, 11, 1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 2, 4, 3, 6, 9, 12, 11, 13, 3, 5, 6, 8, 7, 9, 10,
+                12, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 6, 7, 8, 9
+            },
+            // 15 inputs, 56 comparators
+            {
+                0, 13, 1, 12, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 11, 12, 0,
+                1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14, 1, 2,
+                3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14, 1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14, 2, 4, 3, 6, 9,
+                12, 11, 13, 3, 5, 6, 8, 7, 9, 10, 12, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 6, 7, 8, 9
+            },
+            // 16 inputs, 60 comparators
+            {
+                0, 13, 1, 12, 2, 15, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 10,
+                15, 11, 12, 0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 14, 15, 0, 2, 1, 3, 4, 10, 5, 11, 6,
+                7, 8, 9, 12, 14, 13, 15, 1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14, 1, 4, 2, 6, 5, 8, 7,
+                10, 9, 13, 11, 14, 2, 4, 3, 6, 9, 12, 11, 13, 3, 5, 6, 8, 7, 9, 10, 12, 3, 4, 5, 6, 7, 8, 9,
+                10, 11, 12, 6, 7, 8, 9
+            }
+    };
+
+    private SortingNetworks() {
+    }
+
+    // Sorts array[from, from + length) for length <= MAX_SIZE
+    static void sort(int[] array, int from, int length, SortMetrics metrics) {
+        if (length <= 1) {
+            return;
+        }
+
+        int[] network = NETWORKS[length - 2];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = from + network[k];
+            int j = from + network[k + 1];
+            int a = array[i];
+            int b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+        }
+        metrics.addComparisons(network.length / 2);
+        metrics.addAssignments(network.length);
+    }
+
+    static int comparatorCount(int length) {
+        return length <= 1 ? 0 : NETWORKS[length - 2].length / 2;
+    }
+}
@@ -0,0 +1,271 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+// Sorts an int stream of unknown length: each full chunk is sorted as it arrives and kept as a run, runs past the
+// in-memory limit are spilled to disk, and finish() loser-tree merges the runs lazily. Heap use stays near
+// (maxMemoryRuns + 1) * chunkSize ints however long the input is; not thread-safe
+public class StreamingSorter implements AutoCloseable {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int DEFAULT_MAX_MEMORY_RUNS = 8;
+    private static final int DEFAULT_MAX_FAN_IN = 64;
+    private static final int IO_BUFFER_BYTES = 64 << 10;
+
+    private final SortMetrics metrics;
+    private final HybridMergeSort chunkSorter;
+    private final int chunkSize;
+    private final int maxMemoryRuns;
+    private final int maxFanIn;
+    private final Path tempDirectory;
+
+    private final List<int[]> memoryRuns = new ArrayList<>();
+    private final List<Path> spilledRuns = new ArrayList<>();
+    private int[] chunk;
+    private int chunkCount;
+    private long size;
+    private RunFiles.Reader[] openReaders;
+    private boolean finished;
+
+    public StreamingSorter() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_MEMORY_RUNS, DEFAULT_MAX_FAN_IN, null);
+    }
+
+    public StreamingSorter(int chunkSize, int maxMemoryRuns) {
+        this(chunkSize, maxMemoryRuns, DEFAULT_MAX_FAN_IN, null);
+    }
+
+    public StreamingSorter(int chunkSize, int maxMemoryRuns, int maxFanIn, Path tempDirectory) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxMemoryRuns < 0) {
+            throw new IllegalArgumentException("In-memory run limit cannot be negative");
+        }
+        // The final merge reads every in-memory run, the last partial chunk and at least one spilled run at once
+        if (maxFanIn < maxMemoryRuns + 2) {
+            throw new IllegalArgumentException("Fan-in must exceed the in-memory run limit by at least 2");
+        }
+        this.metrics = new SortMetrics();
+        this.chunkSorter = new HybridMergeSort(metrics.newLocal());
+        this.chunkSize = chunkSize;
+        this.maxMemoryRuns = maxMemoryRuns;
+        this.maxFanIn = maxFanIn;
+        this.tempDirectory = tempDirectory;
+        this.chunk = new int[chunkSize];
+    }
+
+    public void add(int value) throws IOException {
+        checkOpen();
+        chunk[chunkCount++] = value;
+        size++;
+        if (chunkCount == chunkSize) {
+            sealChunk();
+        }
+    }
+
+    public void addAll(int[] values, int from, int to) throws IOException {
+        checkOpen();
+        RangeCheck.check(values, from, to);
+        while (from < to) {
+            int batch = Math.min(to - from, chunkSize - chunkCount);
+            System.arraycopy(values, from, chunk, chunkCount, batch);
+            chunkCount += batch;
+            size += batch;
+            from += batch;
+            if (chunkCount == chunkSize) {
+                sealChunk();
+            }
+        }
+    }
+
+    public void addAll(IntStream values) throws IOException {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        PrimitiveIterator.OfInt iterator = values.iterator();
+        while (iterator.hasNext()) {
+            add(iterator.nextInt());
+        }
+    }
+
+    // Consumes the buffer's remaining ints in the buffer's own byte order
+    public void addAll(ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (buffer.remaining() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Buffer holds " + buffer.remaining() + " bytes, not whole ints");
+        }
+        checkOpen();
+        while (buffer.hasRemaining()) {
+            int batch = Math.min(buffer.remaining() / Integer.BYTES, chunkSize - chunkCount);
+            buffer.asIntBuffer().get(chunk, chunkCount, batch);
+            buffer.position(buffer.position() + batch * Integer.BYTES);
+            chunkCount += batch;
+            size += batch;
+            if (chunkCount == chunkSize) {
+                sealChunk();
+            }
+        }
+    }
+
+    // Ends the input and returns the values in ascending order; only the last partial chunk is sorted here
+    public PrimitiveIterator.OfInt finish() throws IOException {
+        checkOpen();
+        finished = true;
+
+        if (chunkCount > 0) {
+            int[] last = Arrays.copyOf(chunk, chunkCount);
+            chunkSorter.sort(last);
+            metrics.merge(chunkSorter.getMetrics());
+            memoryRuns.add(last);
+        }
+        chunk = null;
+
+        reduceSpilledRuns(maxFanIn - memoryRuns.size());
+
+        IntRun[] runs = new IntRun[memoryRuns.size() + spilledRuns.size()];
+        int index = 0;
+        for (int[] run : memoryRuns) {
+            runs[index++] = new ArrayRun(run);
+        }
+        openReaders = new RunFiles.Reader[spilledRuns.size()];
+        for (int i = 0; i < spilledRuns.size(); i++) {
+            openReaders[i] = new RunFiles.Reader(spilledRuns.get(i), IO_BUFFER_BYTES);
+            runs[index++] = openReaders[i];
+        }
+
+        LoserTree tree = runs.length == 0 ? null : new LoserTree(runs, metrics);
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return tree != null && tree.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return tree.next();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    public IntStream sorted() throws IOException {
+        long count = size;
+        return StreamSupport.intStream(Spliterators.spliterator(finish(), count,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int getSpilledRunCount() {
+        return spilledRuns.size();
+    }
+
+    public SortMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (openReaders != null) {
+                RunFiles.closeAll(openReaders);
+            }
+        } finally {
+            RunFiles.deleteAll(spilledRuns);
+            memoryRuns.clear();
+            chunk = null;
+            finished = true;
+        }
+    }
+
+    private void sealChunk() throws IOException {
+        chunkSorter.sort(chunk);
+        metrics.merge(chunkSorter.getMetrics());
+
+        if (memoryRuns.size() < maxMemoryRuns) {
+            memoryRuns.add(chunk);
+            chunk = new int[chunkSize];
+        } else {
+            // The chunk array is written out and refilled, so spilling allocates no new chunk
+            Path target = createTempRun();
+            spilledRuns.add(target);
+            RunFiles.write(target, chunk, chunkSize, IO_BUFFER_BYTES, metrics);
+        }
+        chunkCount = 0;
+    }
+
+    // Merges spilled runs in groups until the final merge fits within the fan-in
+    private void reduceSpilledRuns(int allowed) throws IOException {
+        while (spilledRuns.size() > allowed) {
+            int groupSize = Math.min(maxFanIn, spilledRuns.size() - allowed + 1);
+            List<Path> group = new ArrayList<>(spilledRuns.subList(0, groupSize));
+            Path target = createTempRun();
+            spilledRuns.add(target);
+            RunFiles.merge(group, target, IO_BUFFER_BYTES, metrics);
+            spilledRuns.removeAll(group);
+            RunFiles.deleteAll(group);
+        }
+    }
+
+    private Path createTempRun() throws IOException {
+        return tempDirectory == null
+                ? Files.createTempFile("streaming-sort-", ".run")
+                : Files.createTempFile(tempDirectory, "streaming-sort-", ".run");
+    }
+
+    private void checkOpen() {
+        if (finished) {
+            throw new IllegalStateException("Input already finished");
+        }
+    }
+
+    private static final class ArrayRun implements IntRun {
+        private final int[] values;
+        private int position;
+
+        ArrayRun(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return position < values.length;
+        }
+
+        @Override
+        public int current() {
+            return values[position];
+        }
+
+        @Override
+        public boolean advance() {
+            position++;
+            return position < values.length;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.newterios.sort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+// Host-specific cutoffs written by the "tune" command; sorters read current() when constructed
+public final class TuningProfile {
+    public static final String PROFILE_PROPERTY = "newterios.tuning.profile";
+    public static final String DEFAULT_PROFILE_FILE = "sort-tuning.properties";
+
+    static final String MERGE_SORT_CUTOFF_KEY = "mergeSort.cutoff";
+    static final String QUICK_SORT_CUTOFF_KEY = "quickSort.cutoff";
+    static final String PARALLEL_MERGE_THRESHOLD_KEY = "parallelMergeSort.threshold";
+    static final String PARALLEL_QUICK_SORT_CUTOFF_KEY = "parallelQuickSort.cutoff";
+
+    private static final int DEFAULT_MERGE_SORT_CUTOFF = SortingNetworks.MAX_SIZE;
+    private static final int DEFAULT_QUICK_SORT_CUTOFF = SortingNetworks.MAX_SIZE;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    private final int mergeSortCutoff;
+    private final int quickSortCutoff;
+    private final int parallelMergeThreshold;
+    private final int parallelQuickSortCutoff;
+
+    public TuningProfile(int mergeSortCutoff, int quickSortCutoff, int parallelMergeThreshold,
+                         int parallelQuickSortCutoff) {
+        if (!isValidLeafCutoff(mergeSortCutoff) || !isValidLeafCutoff(quickSortCutoff)) {
+            throw new IllegalArgumentException("Leaf cutoffs must be between 2 and " + SortingNetworks.MAX_SIZE);
+        }
+        if (parallelMergeThreshold < 2 || parallelQuickSortCutoff < 2) {
+            throw new IllegalArgumentException("Parallel thresholds must be at least 2");
+        }
+        this.mergeSortCutoff = mergeSortCutoff;
+        this.quickSortCutoff = quickSortCutoff;
+        this.parallelMergeThreshold = parallelMergeThreshold;
+        this.parallelQuickSortCutoff = parallelQuickSortCutoff;
+    }
+
+    public static TuningProfile defaults() {
+        return new TuningProfile(DEFAULT_MERGE_SORT_CUTOFF, DEFAULT_QUICK_SORT_CUTOFF,
+                DEFAULT_PARALLEL_THRESHOLD, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    // Loaded once per JVM from -Dnewterios.tuning.profile, else ./sort-tuning.properties, else defaults
+    public static TuningProfile current() {
+        return Holder.PROFILE;
+    }
+
+    public static Path defaultPath() {
+        return Paths.get(System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE_FILE));
+    }
+
+    // A missing file gives the defaults; missing or out-of-range keys fall back one by one
+    public static TuningProfile load(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        TuningProfile defaults = defaults();
+        if (!Files.exists(path)) {
+            return defaults;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+
+        int mergeSortCutoff = readInt(properties, MERGE_SORT_CUTOFF_KEY, defaults.mergeSortCutoff);
+        int quickSortCutoff = readInt(properties, QUICK_SORT_CUTOFF_KEY, defaults.quickSortCutoff);
+        int parallelMergeThreshold = readInt(properties, PARALLEL_MERGE_THRESHOLD_KEY, defaults.parallelMergeThreshold);
+        int parallelQuickSortCutoff = readInt(properties, PARALLEL_QUICK_SORT_CUTOFF_KEY,
+                defaults.parallelQuickSortCutoff);
+
+        return new TuningProfile(
+                isValidLeafCutoff(mergeSortCutoff) ? mergeSortCutoff : defaults.mergeSortCutoff,
+                isValidLeafCutoff(quickSortCutoff) ? quickSortCutoff : defaults.quickSortCutoff,
+                parallelMergeThreshold >= 2 ? parallelMergeThreshold : defaults.parallelMergeThreshold,
+                parallelQuickSortCutoff >= 2 ? parallelQuickSortCutoff : defaults.parallelQuickSortCutoff);
+    }
+
+    public void store(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty(MERGE_SORT_CUTOFF_KEY, Integer.toString(mergeSortCutoff));
+        properties.setProperty(QUICK_SORT_CUTOFF_KEY, Integer.toString(quickSortCutoff));
+        properties.setProperty(PARALLEL_MERGE_THRESHOLD_KEY, Integer.toString(parallelMergeThreshold));
+        properties.setProperty(PARALLEL_QUICK_SORT_CUTOFF_KEY, Integer.toString(parallelQuickSortCutoff));
+
+        String host = String.format("Tuned for %s/%s, %d cores, %s %s",
+                System.getProperty("os.name"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors(),
+                System.getProperty("java.vm.name"), System.getProperty("java.vm.version"));
+        try (OutputStream out = Files.newOutputStream(path)) {
+            properties.store(out, host);
+        }
+    }
+
+    public int getMergeSortCutoff() {
+        return mergeSortCutoff;
+    }
+
+    public int getQuickSortCutoff() {
+        return quickSortCutoff;
+    }
+
+    public int getParallelMergeThreshold() {
+        return parallelMergeThreshold;
+    }
+
+    public int getParallelQuickSortCutoff() {
+        return parallelQuickSortCutoff;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TuningProfile{%s=%d, %s=%d, %s=%d, %s=%d}",
+                MERGE_SORT_CUTOFF_KEY, mergeSortCutoff, QUICK_SORT_CUTOFF_KEY, quickSortCutoff,
+                PARALLEL_MERGE_THRESHOLD_KEY, parallelMergeThreshold,
+                PARALLEL_QUICK_SORT_CUTOFF_KEY, parallelQuickSortCutoff);
+    }
+
+    static boolean isValidLeafCutoff(int cutoff) {
+        return cutoff >= 2 && cutoff <= SortingNetworks.MAX_SIZE;
+    }
+
+    private static int readInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static final class Holder {
+        static final TuningProfile PROFILE = loadDefault();
+
+        private static TuningProfile loadDefault() {
+            try {
+                return load(defaultPath());
+            } catch (IOException | IllegalArgumentException e) {
+                return defaults();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.newterios.metrics;
+
+import com.github.newterios.performance.ArrayGenerator;
+import com.github.newterios.sort.DeterministicSelect;
+import com.github.newterios.sort.HybridMergeSort;
+import com.github.newterios.sort.InsertionSort;
+import com.github.newterios.sort.MergeSort;
+import com.github.newterios.sort.QuickSort;
+import com.github.newterios.sort.Sorter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoOpSortMetricsTest {
+
+    @Test
+    @DisplayName("Should ignore all counting calls")
+    void shouldIgnoreCounting() {
+        SortMetrics metrics = SortMetrics.noOp();
+        metrics.incrementComparisons();
+        metrics.incrementAssignments();
+        metrics.addComparisons(10);
+        metrics.addAssignments(10);
+        metrics.enterRecursion();
+
+        assertEquals(0, metrics.getTotalOperations());
+        assertEquals(0, metrics.getMaxRecursionDepth());
+        assertInstanceOf(NoOpSortMetrics.class, metrics.newLocal());
+    }
+
+    @Test
+    @DisplayName("Should still measure execution time")
+    void shouldStillMeasureTime() {
+        SortMetrics metrics = SortMetrics.noOp();
+        metrics.startTimer();
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.stopTimer();
+
+        assertTrue(metrics.getExecutionTimeNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Sorters should produce identical results without instrumentation")
+    void shouldSortWithoutInstrumentation() {
+        int[] array = ArrayGenerator.generateRandomArray(2000, -1000, 1000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        Sorter[] sorters = {
+                new InsertionSort(SortMetrics.noOp()),
+                new MergeSort(SortMetrics.noOp()),
+                new HybridMergeSort(SortMetrics.noOp()),
+                new QuickSort(SortMetrics.noOp())
+        };
+
+        for (Sorter sorter : sorters) {
+            int[] copy = array.clone();
+            sorter.sort(copy);
+            assertArrayEquals(expected, copy, sorter.getName());
+            assertEquals(0, sorter.getMetrics().getTotalOperations(), sorter.getName());
+        }
+
+        DeterministicSelect selector = new DeterministicSelect(SortMetrics.noOp());
+        assertEquals(expected[1000], selector.select(array.clone(), 1000));
+        assertEquals(0, selector.getMetrics().getTotalOperations());
+    }
+}
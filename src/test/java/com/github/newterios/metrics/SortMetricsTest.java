@@ -56,6 +56,26 @@ class SortMetricsTest {
         assertEquals(8, metrics.getTotalOperations());
     }
 
+    @Test
+    @DisplayName("Should merge worker metrics beneath the current depth")
+    void shouldMergeWorkerMetrics() {
+        SortMetrics worker = new SortMetrics();
+        worker.addComparisons(4);
+        worker.addAssignments(6);
+        worker.enterRecursion();
+        worker.enterRecursion();
+        worker.exitRecursion();
+        worker.exitRecursion();
+
+        metrics.enterRecursion();
+        metrics.merge(worker);
+        metrics.exitRecursion();
+
+        assertEquals(4, metrics.getComparisons());
+        assertEquals(6, metrics.getAssignments());
+        assertEquals(3, metrics.getMaxRecursionDepth());
+    }
+
     @Test
     @DisplayName("Should reset metrics correctly")
     void shouldResetMetrics() {
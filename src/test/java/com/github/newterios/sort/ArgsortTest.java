@@ -0,0 +1,127 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArgsortTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 7, 100, 5000})
+    @DisplayName("Should return a sorting permutation without touching the keys")
+    void shouldReturnSortingPermutation(int size) {
+        int[] keys = ArrayGenerator.generateArrayWithDuplicates(size, 50);
+        int[] original = keys.clone();
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+
+        for (int[] permutation : new int[][]{new HybridMergeSort().argsort(keys), new QuickSort().argsort(keys)}) {
+            assertArrayEquals(original, keys);
+            assertArrayEquals(expected, Permutations.gather(keys, permutation));
+            int[] seen = permutation.clone();
+            Arrays.sort(seen);
+            for (int i = 0; i < seen.length; i++) {
+                assertEquals(i, seen[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep equal keys in index order in HybridMergeSort argsort")
+    void shouldBeStable() {
+        int[] keys = ArrayGenerator.generateArrayWithDuplicates(2000, 10);
+
+        int[] permutation = new HybridMergeSort().argsort(keys);
+
+        for (int i = 1; i < permutation.length; i++) {
+            if (keys[permutation[i - 1]] == keys[permutation[i]]) {
+                assertTrue(permutation[i - 1] < permutation[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should move payload together with keys")
+    void shouldCoSortKeysAndValues() {
+        int[] keys = ArrayGenerator.generateRandomArray(3000, 0, 500);
+        int[] values = new int[keys.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = keys[i] * 31 + 7;
+        }
+
+        int[] mergeKeys = keys.clone();
+        int[] mergeValues = values.clone();
+        new HybridMergeSort().sort(mergeKeys, mergeValues);
+        assertPaired(mergeKeys, mergeValues);
+
+        int[] quickKeys = keys.clone();
+        int[] quickValues = values.clone();
+        new QuickSort().sort(quickKeys, quickValues);
+        assertPaired(quickKeys, quickValues);
+    }
+
+    @Test
+    @DisplayName("Should reorder several columns with one argsort")
+    void shouldGatherColumns() {
+        int[] keys = {3, 1, 2};
+        long[] ids = {30L, 10L, 20L};
+        String[] names = {"c", "a", "b"};
+
+        int[] permutation = new HybridMergeSort().argsort(keys);
+
+        assertArrayEquals(new long[]{10L, 20L, 30L}, Permutations.gather(ids, permutation));
+        assertArrayEquals(new String[]{"a", "b", "c"}, Permutations.gather(names, permutation));
+    }
+
+    @Test
+    @DisplayName("Should reject mismatched key and value lengths")
+    void shouldRejectMismatchedLengths() {
+        assertThrows(IllegalArgumentException.class, () -> new HybridMergeSort().sort(new int[3], new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> new QuickSort().sort(new int[3], null));
+        assertThrows(IllegalArgumentException.class, () -> Permutations.gather(new int[2], new int[3]));
+    }
+
+    @Test
+    @DisplayName("QuickSort co-sort should fall back to heapsort when every pivot is the worst choice")
+    void shouldBoundCoSortWithIntrosort() {
+        // Always picks the leftmost element, which is the smallest on sorted input
+        Random firstElement = new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return 0;
+            }
+        };
+        int size = 20000;
+        int[] keys = new int[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+            values[i] = i * 31 + 7;
+        }
+
+        QuickSort sorter = new QuickSort(new SortMetrics(), QuickSort.Partitioning.THREE_WAY, true, firstElement);
+        sorter.sort(keys, values);
+
+        assertPaired(keys, values);
+        double log2n = Math.log(size) / Math.log(2);
+        assertTrue(sorter.getMetrics().getComparisons() <= 8 * size * log2n,
+                "comparisons: " + sorter.getMetrics().getComparisons());
+    }
+
+    private static void assertPaired(int[] keys, int[] values) {
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i] * 31 + 7, values[i]);
+            if (i > 0) {
+                assertTrue(keys[i - 1] <= keys[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSorterTest {
+    private ForkJoinPool pool;
+    private BatchSorter sorter;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        sorter = new BatchSorter(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static int[][] mixedBatch(int count) {
+        int[][] arrays = new int[count][];
+        for (int i = 0; i < count; i++) {
+            // Cycles through network, insertion sort and merge sort sizes
+            arrays[i] = ArrayGenerator.generateRandomArray(i % 200, -1000, 1000);
+        }
+        return arrays;
+    }
+
+    @Test
+    @DisplayName("Should sort every array in the batch")
+    void shouldSortBatch() {
+        int[][] arrays = mixedBatch(5000);
+        int[][] expected = new int[arrays.length][];
+        for (int i = 0; i < arrays.length; i++) {
+            expected[i] = arrays[i].clone();
+            Arrays.sort(expected[i]);
+        }
+
+        sorter.sort(arrays);
+
+        for (int i = 0; i < arrays.length; i++) {
+            assertArrayEquals(expected[i], arrays[i], "array " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort a stream of arrays")
+    void shouldSortStream() {
+        int[][] arrays = mixedBatch(2000);
+
+        sorter.sort(Arrays.stream(arrays));
+
+        for (int[] array : arrays) {
+            for (int i = 1; i < array.length; i++) {
+                assertTrue(array[i - 1] <= array[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report metrics per array")
+    void shouldReportPerArrayMetrics() {
+        int[][] arrays = {
+                ArrayGenerator.generateRandomArray(10, 0, 100),
+                ArrayGenerator.generateReverseSortedArray(40, 1),
+                ArrayGenerator.generateRandomArray(5000, 0, 100_000),
+                null,
+                {}
+        };
+
+        SortMetrics[] metrics = sorter.sortWithMetrics(arrays);
+
+        assertEquals(arrays.length, metrics.length);
+        assertEquals(SortingNetworks.comparatorCount(10), metrics[0].getComparisons());
+        // Reverse order makes insertion sort compare every pair once
+        assertEquals(40 * 39 / 2, metrics[1].getComparisons());
+        assertTrue(metrics[2].getComparisons() > 5000);
+        assertEquals(0, metrics[3].getComparisons());
+        assertEquals(0, metrics[4].getComparisons());
+        assertTrue(metrics[2].getExecutionTimeNanos() >= 0);
+    }
+
+    @Test
+    @DisplayName("Should reject null batches")
+    void shouldRejectNullBatch() {
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort((int[][]) null));
+        assertThrows(IllegalArgumentException.class, () -> new BatchSorter(null));
+    }
+}
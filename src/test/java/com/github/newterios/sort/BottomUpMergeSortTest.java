@@ -0,0 +1,54 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BottomUpMergeSortTest {
+    private BottomUpMergeSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new BottomUpMergeSort();
+    }
+
+    @Test
+    @DisplayName("Should sort basic array")
+    void shouldSortBasicArray() {
+        int[] array = {5, 2, 4, 6, 1, 3};
+        sorter.sort(array);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, array);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 7, 8, 9, 100, 1023, 1024, 1025, 5000})
+    @DisplayName("Should sort sizes on and around powers of two")
+    void shouldSortVariousSizes(int size) {
+        int[] array = ArrayGenerator.generateRandomArray(size, -1000, 1000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        sorter.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    @DisplayName("Should move fewer elements than the top-down MergeSort")
+    void shouldMoveLessThanTopDown() {
+        int[] array = ArrayGenerator.generateRandomArray(4096, 1, 100000);
+        MergeSort topDown = new MergeSort();
+
+        topDown.sort(array.clone());
+        sorter.sort(array.clone());
+
+        assertTrue(sorter.getMetrics().getAssignments() < topDown.getMetrics().getAssignments());
+        assertEquals(0, sorter.getMetrics().getMaxRecursionDepth());
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.AllocationCounter;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DeterministicSelectIntroselectTest {
+
+    private static int[][] inputs(int size) {
+        int[] organPipe = new int[size];
+        for (int i = 0; i < size; i++) {
+            organPipe[i] = Math.min(i, size - 1 - i);
+        }
+        int[] sawtooth = new int[size];
+        for (int i = 0; i < size; i++) {
+            sawtooth[i] = i % 64;
+        }
+        return new int[][]{
+                ArrayGenerator.generateRandomArray(size, -100000, 100000),
+                ArrayGenerator.generateSortedArray(size, 1),
+                ArrayGenerator.generateReverseSortedArray(size, 1),
+                ArrayGenerator.generateNearlySortedArray(size, 1, 0.05),
+                ArrayGenerator.generateArrayWithDuplicates(size, 5),
+                new int[size],
+                organPipe,
+                sawtooth
+        };
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeterministicSelect.Strategy.class)
+    @DisplayName("Should match Arrays.sort for every strategy and input shape")
+    void shouldMatchArraysSort(DeterministicSelect.Strategy strategy) {
+        DeterministicSelect selector = new DeterministicSelect(strategy);
+        for (int[] input : inputs(3000)) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+
+            for (int k : new int[]{0, 1, input.length / 3, input.length / 2, input.length - 2, input.length - 1}) {
+                assertEquals(expected[k], selector.select(input.clone(), k), "k=" + k);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Introselect should stay linear on structured inputs")
+    void shouldStayLinear() {
+        int size = 100000;
+        for (int[] input : inputs(size)) {
+            DeterministicSelect selector = new DeterministicSelect(new SortMetrics(), DeterministicSelect.Strategy.INTROSELECT);
+            selector.select(input, size / 2);
+
+            assertTrue(selector.getMetrics().getComparisons() <= 30L * size,
+                    "comparisons: " + selector.getMetrics().getComparisons());
+        }
+    }
+
+    @Test
+    @DisplayName("Introselect should do less work than median of medians on random input")
+    void shouldBeatMedianOfMediansOnRandomInput() {
+        int[] input = ArrayGenerator.generateRandomArray(100000, 0, 1000000);
+        DeterministicSelect introselect = new DeterministicSelect(DeterministicSelect.Strategy.INTROSELECT);
+        DeterministicSelect medianOfMedians = new DeterministicSelect(DeterministicSelect.Strategy.MEDIAN_OF_MEDIANS);
+
+        assertEquals(medianOfMedians.select(input.clone(), 50000), introselect.select(input.clone(), 50000));
+        assertTrue(introselect.getMetrics().getComparisons() < medianOfMedians.getMetrics().getComparisons());
+    }
+
+    @ParameterizedTest
+    @EnumSource(DeterministicSelect.Strategy.class)
+    @DisplayName("Should not allocate on the heap per select call")
+    void shouldNotAllocate(DeterministicSelect.Strategy strategy) {
+        assumeTrue(AllocationCounter.isSupported());
+
+        int[][] sources = inputs(20000);
+        int[][] arrays = new int[sources.length][sources[0].length];
+        DeterministicSelect selector = new DeterministicSelect(SortMetrics.noOp(), strategy);
+
+        // Warm-up lets the JIT settle before measuring
+        for (int round = 0; round < 20; round++) {
+            selectAll(selector, sources, arrays);
+        }
+
+        long before = AllocationCounter.currentThreadAllocatedBytes();
+        selectAll(selector, sources, arrays);
+        long allocated = AllocationCounter.currentThreadAllocatedBytes() - before;
+
+        // Small slack for the counter call itself
+        assertTrue(allocated < 1024, strategy + " allocated " + allocated + " bytes");
+    }
+
+    private static void selectAll(DeterministicSelect selector, int[][] sources, int[][] arrays) {
+        for (int i = 0; i < sources.length; i++) {
+            System.arraycopy(sources[i], 0, arrays[i], 0, sources[i].length);
+            selector.select(arrays[i], (i * 7919) % sources[i].length);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a null strategy")
+    void shouldRejectNullStrategy() {
+        assertThrows(IllegalArgumentException.class, () -> new DeterministicSelect(new SortMetrics(), null));
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalMergeSortTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should sort a file spanning many runs")
+    void shouldSortAcrossRuns() throws IOException {
+        int[] values = ArrayGenerator.generateRandomArray(100_000, -1_000_000, 1_000_000);
+        Path input = writeInts("input.bin", values);
+        Path output = tempDir.resolve("output.bin");
+
+        // 64 KiB budget gives 8192-int chunks, so 13 runs
+        ExternalMergeSort sorter = new ExternalMergeSort(new HybridMergeSort(), 64 * 1024, 64, tempDir);
+        sorter.sort(input, output);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertTrue(sorter.getMetrics().getComparisons() > 0);
+        assertNoRunFilesLeft();
+    }
+
+    @Test
+    @DisplayName("Should merge in several passes when runs exceed the fan-in")
+    void shouldMergeInPasses() throws IOException {
+        int[] values = ArrayGenerator.generateArrayWithDuplicates(50_000, 100);
+        Path input = writeInts("input.bin", values);
+        Path output = tempDir.resolve("output.bin");
+
+        ExternalMergeSort sorter = new ExternalMergeSort(new QuickSort(), 16 * 1024, 3, tempDir);
+        sorter.sort(input, output);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertNoRunFilesLeft();
+    }
+
+    @Test
+    @DisplayName("Should handle files that fit in one chunk and empty files")
+    void shouldHandleSmallFiles() throws IOException {
+        ExternalMergeSort sorter = new ExternalMergeSort();
+
+        Path small = writeInts("small.bin", new int[]{3, Integer.MAX_VALUE, -7, 0});
+        Path smallOut = tempDir.resolve("small-out.bin");
+        sorter.sort(small, smallOut);
+        assertArrayEquals(new int[]{-7, 0, 3, Integer.MAX_VALUE}, readInts(smallOut));
+
+        Path empty = writeInts("empty.bin", new int[0]);
+        Path emptyOut = tempDir.resolve("empty-out.bin");
+        sorter.sort(empty, emptyOut);
+        assertEquals(0, Files.size(emptyOut));
+    }
+
+    @Test
+    @DisplayName("Should delete temp runs created by a merge pass that fails")
+    void shouldCleanUpAfterFailedMergePass() throws IOException {
+        int[] values = ArrayGenerator.generateRandomArray(50_000, 0, 1_000_000);
+        Path input = writeInts("input.bin", values);
+
+        // Removes the spilled runs while the last chunk is sorted, so the first intermediate merge fails after creating its target
+        int chunks = (int) Math.ceil(values.length / 2048.0);
+        Sorter sabotaging = new HybridMergeSort() {
+            private int calls;
+
+            @Override
+            public void sort(int[] array, int from, int to) {
+                super.sort(array, from, to);
+                if (++calls == chunks) {
+                    try (Stream<Path> files = Files.list(tempDir)) {
+                        for (Path run : files.filter(path -> path.getFileName().toString().endsWith(".run")).toList()) {
+                            Files.delete(run);
+                        }
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        };
+
+        ExternalMergeSort sorter = new ExternalMergeSort(sabotaging, 16 * 1024, 3, tempDir);
+        assertThrows(IOException.class, () -> sorter.sort(input, tempDir.resolve("output.bin")));
+        assertNoRunFilesLeft();
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not whole ints")
+    void shouldRejectTruncatedInput() throws IOException {
+        Path input = tempDir.resolve("broken.bin");
+        Files.write(input, new byte[]{1, 2, 3});
+
+        ExternalMergeSort sorter = new ExternalMergeSort();
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(input, tempDir.resolve("out.bin")));
+    }
+
+    private Path writeInts(String name, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buffer.asIntBuffer().put(values);
+        Path path = tempDir.resolve(name);
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private int[] readInts(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    private void assertNoRunFilesLeft() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.filter(path -> path.toString().endsWith(".run")).count());
+        }
+    }
+}
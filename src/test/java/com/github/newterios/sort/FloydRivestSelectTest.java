@@ -0,0 +1,80 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloydRivestSelectTest {
+
+    @Test
+    @DisplayName("Should match Arrays.sort on every input shape")
+    void shouldMatchArraysSort() {
+        int[][] inputs = {
+                ArrayGenerator.generateRandomArray(20000, -100000, 100000),
+                ArrayGenerator.generateSortedArray(20000, 1),
+                ArrayGenerator.generateReverseSortedArray(20000, 1),
+                ArrayGenerator.generateNearlySortedArray(20000, 1, 0.05),
+                ArrayGenerator.generateArrayWithDuplicates(20000, 5),
+                new int[20000],
+                ArrayGenerator.generateRandomArray(700, 0, 100),
+                {7},
+                {2, 1}
+        };
+        Selector selector = new FloydRivestSelect();
+
+        for (int[] input : inputs) {
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            int n = input.length;
+
+            for (int k : new int[]{0, n / 4, n / 2, n - 1}) {
+                int[] copy = input.clone();
+                assertEquals(expected[k], selector.select(copy, k), "k=" + k);
+                assertEquals(expected[k], copy[k]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should need about n + min(k, n - k) comparisons on large random input")
+    void shouldApproachComparisonLowerBound() {
+        int size = 1_000_000;
+        int[] array = ArrayGenerator.generateRandomArray(size, 0, size * 10);
+
+        for (int k : new int[]{size / 2, size / 100, size - size / 1000}) {
+            FloydRivestSelect selector = new FloydRivestSelect(new SortMetrics());
+            selector.select(array.clone(), k);
+
+            long bound = size + Math.min(k, size - k);
+            assertTrue(selector.getMetrics().getComparisons() < bound * 1.25,
+                    "k=" + k + ": " + selector.getMetrics().getComparisons() + " comparisons, bound " + bound);
+        }
+    }
+
+    @Test
+    @DisplayName("Should make fewer comparisons than median of medians")
+    void shouldBeatMedianOfMedians() {
+        int[] array = ArrayGenerator.generateRandomArray(100000, 0, 1000000);
+        Selector floydRivest = new FloydRivestSelect();
+        Selector medianOfMedians = new DeterministicSelect(DeterministicSelect.Strategy.MEDIAN_OF_MEDIANS);
+
+        assertEquals(medianOfMedians.select(array.clone(), 50000), floydRivest.select(array.clone(), 50000));
+        assertTrue(floydRivest.getMetrics().getComparisons() < medianOfMedians.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input")
+    void shouldRejectInvalidInput() {
+        FloydRivestSelect selector = new FloydRivestSelect();
+
+        assertThrows(IllegalArgumentException.class, () -> new FloydRivestSelect(null));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(new int[0], 0));
+        assertThrows(IllegalArgumentException.class, () -> selector.select(new int[]{1, 2}, 2));
+    }
+}
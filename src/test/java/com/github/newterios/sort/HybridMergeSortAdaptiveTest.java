@@ -0,0 +1,97 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HybridMergeSortAdaptiveTest {
+    private HybridMergeSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new HybridMergeSort(true);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    @DisplayName("Should match Arrays.sort on various inputs")
+    void shouldMatchArraysSort(int[] array, String description) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        sorter.sort(array);
+        assertArrayEquals(expected, array, description);
+    }
+
+    private static Stream<Arguments> provideTestArrays() {
+        return Stream.of(
+                Arguments.of(ArrayGenerator.generateRandomArray(10000, -5000, 5000), "Random 10000 elements"),
+                Arguments.of(ArrayGenerator.generateNearlySortedArray(10000, 1, 0.01), "Nearly sorted 10000 elements"),
+                Arguments.of(ArrayGenerator.generateReverseSortedArray(1000, 1), "Reverse sorted"),
+                Arguments.of(ArrayGenerator.generateArrayWithDuplicates(5000, 5), "Many duplicates"),
+                Arguments.of(sawtooth(10000, 137), "Ascending runs of 137"),
+                Arguments.of(organPipe(5000), "Ascending then descending"),
+                Arguments.of(new int[]{2, 1}, "Two elements"),
+                Arguments.of(new int[]{3, 3, 3}, "All same elements")
+        );
+    }
+
+    @Test
+    @DisplayName("Sorted input should take n - 1 comparisons")
+    void shouldBeLinearOnSortedInput() {
+        int[] array = ArrayGenerator.generateSortedArray(10000, 1);
+        sorter.sort(array);
+
+        assertEquals(9999, sorter.getMetrics().getComparisons());
+        assertEquals(0, sorter.getMetrics().getAssignments());
+    }
+
+    @Test
+    @DisplayName("Reverse sorted input should be reversed in one pass")
+    void shouldReverseDescendingRun() {
+        int[] array = ArrayGenerator.generateReverseSortedArray(10000, 1);
+        sorter.sort(array);
+
+        assertArrayEquals(ArrayGenerator.generateSortedArray(10000, 1), array);
+        assertEquals(9999, sorter.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("Nearly sorted input should need far fewer comparisons than the top-down mode")
+    void shouldBeatTopDownOnNearlySortedInput() {
+        int[] array = ArrayGenerator.generateNearlySortedArray(100000, 1, 0.001);
+        HybridMergeSort topDown = new HybridMergeSort();
+
+        topDown.sort(array.clone());
+        sorter.sort(array.clone());
+
+        assertTrue(sorter.getMetrics().getComparisons() * 3 < topDown.getMetrics().getComparisons(),
+                String.format("Adaptive %d vs top-down %d comparisons",
+                        sorter.getMetrics().getComparisons(), topDown.getMetrics().getComparisons()));
+    }
+
+    private static int[] sawtooth(int size, int period) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i % period;
+        }
+        return array;
+    }
+
+    private static int[] organPipe(int size) {
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i < size / 2 ? i : size - i;
+        }
+        return array;
+    }
+}
@@ -24,7 +24,7 @@ class HybridMergeSortTest {
     @Test
     @DisplayName("Should handle null array")
     void shouldHandleNullArray() {
-        assertDoesNotThrow(() -> sorter.sort(null));
+        assertDoesNotThrow(() -> sorter.sort((int[]) null));
     }
 
     @Test
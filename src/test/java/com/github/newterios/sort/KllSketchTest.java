@@ -0,0 +1,191 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KllSketchTest {
+
+    private static final double[] QUANTILES = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    // Normalized rank error of the sketch's answer for q, measured against the sorted data
+    private static double rankError(int[] sorted, int answer, double q) {
+        int below = lowerBound(sorted, answer);
+        int atOrBelow = lowerBound(sorted, answer + 1L);
+        double target = q * sorted.length;
+        // Any rank inside the run of equal values is a correct answer
+        double distance = target < below ? below - target : target > atOrBelow ? target - atOrBelow : 0;
+        return distance / sorted.length;
+    }
+
+    private static int lowerBound(int[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Test
+    @DisplayName("Should answer quantiles within the KLL error bound using bounded memory")
+    void shouldStayAccurateWithBoundedMemory() {
+        int size = 1_000_000;
+        int[] values = ArrayGenerator.generateRandomArray(size, -1_000_000, 1_000_000);
+        KllSketch sketch = new KllSketch(200, new Random(42));
+        sketch.add(values);
+
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            assertTrue(rankError(sorted, sketch.quantile(q), q) < 0.02, "q=" + q);
+        }
+
+        assertEquals(size, sketch.getN());
+        assertTrue(sketch.getRetainedItems() < 4 * 200, "retained " + sketch.getRetainedItems());
+        assertEquals(sorted[0], sketch.quantile(0));
+        assertEquals(sorted[size - 1], sketch.quantile(1));
+        assertEquals(size, sketch.rank(sorted[size - 1]));
+        assertTrue(Math.abs(sketch.rank(sorted[size / 2]) - size / 2) < size * 0.02);
+    }
+
+    @Test
+    @DisplayName("Should be exact while the stream fits in the first level")
+    void shouldBeExactForSmallStreams() {
+        KllSketch sketch = new KllSketch();
+        sketch.add(new int[]{5, 1, 4, 2, 3});
+
+        assertArrayEquals(new int[]{1, 2, 3, 5}, sketch.quantiles(0.2, 0.4, 0.5, 0.9));
+        assertEquals(3, sketch.rank(3));
+        assertEquals(0, sketch.rank(0));
+    }
+
+    @Test
+    @DisplayName("Should merge sketches built on different threads")
+    void shouldMergeAcrossThreads() throws InterruptedException {
+        int threads = 4;
+        int perThread = 250_000;
+        int[][] parts = new int[threads][];
+        KllSketch[] sketches = new KllSketch[threads];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            // Disjoint value ranges, so a bad merge shows up as a badly placed median
+            parts[t] = ArrayGenerator.generateRandomArray(perThread, t * 1_000_000, t * 1_000_000 + 999_999);
+            sketches[t] = new KllSketch(200, new Random(t));
+            int index = t;
+            workers[t] = new Thread(() -> sketches[index].add(parts[index]));
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        KllSketch merged = new KllSketch(200, new Random(7));
+        for (KllSketch sketch : sketches) {
+            merged.merge(sketch);
+        }
+
+        int[] sorted = new int[threads * perThread];
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(parts[t], 0, sorted, t * perThread, perThread);
+        }
+        Arrays.sort(sorted);
+        assertEquals(sorted.length, merged.getN());
+        assertTrue(merged.getRetainedItems() < 4 * 200);
+        for (double q : QUANTILES) {
+            assertTrue(rankError(sorted, merged.quantile(q), q) < 0.02, "q=" + q);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round-trip through bytes")
+    void shouldRoundTripThroughBytes() {
+        KllSketch sketch = new KllSketch(100);
+        sketch.add(ArrayGenerator.generateArrayWithDuplicates(100_000, 50));
+
+        byte[] bytes = sketch.toByteArray();
+        KllSketch copy = KllSketch.fromByteArray(bytes);
+
+        assertEquals(sketch.getSerializedSizeBytes(), bytes.length);
+        assertEquals(sketch.getN(), copy.getN());
+        assertEquals(sketch.getK(), copy.getK());
+        assertEquals(sketch.getRetainedItems(), copy.getRetainedItems());
+        for (double q : new double[]{0, 0.3, 0.5, 0.95, 1}) {
+            assertEquals(sketch.quantile(q), copy.quantile(q));
+        }
+        assertArrayEquals(bytes, copy.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should merge a sketch into itself")
+    void shouldMergeIntoItself() {
+        int[] values = ArrayGenerator.generateRandomArray(100_000, 0, 1_000_000);
+        KllSketch sketch = new KllSketch(200, new Random(3));
+        sketch.add(values);
+
+        sketch.merge(sketch);
+
+        int[] doubled = new int[values.length * 2];
+        System.arraycopy(values, 0, doubled, 0, values.length);
+        System.arraycopy(values, 0, doubled, values.length, values.length);
+        Arrays.sort(doubled);
+        assertEquals(doubled.length, sketch.getN());
+        assertTrue(sketch.getRetainedItems() < 4 * 200);
+        for (double q : QUANTILES) {
+            assertTrue(rankError(doubled, sketch.quantile(q), q) < 0.02, "q=" + q);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt headers without allocating for them")
+    void shouldRejectCorruptHeaders() {
+        KllSketch sketch = new KllSketch(100);
+        sketch.add(ArrayGenerator.generateRandomArray(10_000, 0, 1000));
+        byte[] valid = sketch.toByteArray();
+
+        // Header layout: magic, k, n, min, max, level count
+        byte[] hugeK = valid.clone();
+        ByteBuffer.wrap(hugeK).putInt(4, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(hugeK));
+
+        byte[] wrongN = valid.clone();
+        ByteBuffer.wrap(wrongN).putLong(8, sketch.getN() + 1);
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(wrongN));
+
+        byte[] minAboveMax = valid.clone();
+        ByteBuffer.wrap(minAboveMax).putInt(16, 2000).putInt(20, -1);
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(minAboveMax));
+
+        byte[] tooManyLevels = valid.clone();
+        ByteBuffer.wrap(tooManyLevels).putInt(24, 1000);
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(tooManyLevels));
+
+        assertEquals(0, KllSketch.fromByteArray(new KllSketch().toByteArray()).getN());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input")
+    void shouldRejectInvalidInput() {
+        KllSketch sketch = new KllSketch();
+
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(4));
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(KllSketch.MAX_K + 1));
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new KllSketch(100)));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(null));
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(new byte[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.fromByteArray(new byte[24]));
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiSelectTest {
+
+    @ParameterizedTest
+    @EnumSource(DeterministicSelect.Strategy.class)
+    @DisplayName("Should return every requested rank in request order")
+    void shouldMatchArraysSort(DeterministicSelect.Strategy strategy) {
+        int[][] inputs = {
+                ArrayGenerator.generateRandomArray(5000, -100000, 100000),
+                ArrayGenerator.generateSortedArray(5000, 1),
+                ArrayGenerator.generateReverseSortedArray(5000, 1),
+                ArrayGenerator.generateArrayWithDuplicates(5000, 7),
+                new int[5000],
+                {42}
+        };
+        DeterministicSelect selector = new DeterministicSelect(strategy);
+
+        for (int[] input : inputs) {
+            int n = input.length;
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+            int[] ks = {n - 1, 0, n / 2, n / 2, (int) (n * 0.99), 1 % n, (int) (n * 0.9)};
+
+            int[] actual = selector.multiSelect(input.clone(), ks);
+
+            for (int i = 0; i < ks.length; i++) {
+                assertEquals(expected[ks[i]], actual[i], "k=" + ks[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave requested ranks in sorted position")
+    void shouldPlaceRanksInPosition() {
+        int[] array = ArrayGenerator.generateRandomArray(10000, 0, 1000000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        int[] ks = {10, 2500, 5000, 9999};
+
+        new DeterministicSelect().multiSelect(array, ks);
+
+        for (int k : ks) {
+            assertEquals(expected[k], array[k]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute nearest-rank percentiles")
+    void shouldComputePercentiles() {
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array.length - i;
+        }
+
+        int[] result = new DeterministicSelect().percentiles(array, 50, 90, 95, 99, 99.9, 0, 100);
+
+        assertArrayEquals(new int[]{500, 900, 950, 990, 999, 1, 1000}, result);
+    }
+
+    @Test
+    @DisplayName("Should not overshoot nearest rank through floating-point error")
+    void shouldComputeExactNearestRank() {
+        int[] array = new int[41000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i + 1;
+        }
+
+        // 99.9% of 41000 is exactly 40959
+        assertArrayEquals(new int[]{40959, 20500, 1}, new DeterministicSelect().percentiles(array, 99.9, 50, 0.001));
+    }
+
+    @Test
+    @DisplayName("Should leave the array untouched when no ranks are requested")
+    void shouldNotPartitionForNoRanks() {
+        int[] array = ArrayGenerator.generateRandomArray(1000, 0, 1000);
+        int[] original = array.clone();
+        DeterministicSelect selector = new DeterministicSelect();
+
+        assertEquals(0, selector.multiSelect(array, new int[0]).length);
+        assertArrayEquals(original, array);
+        assertEquals(0, selector.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("Should do less work than one select per rank")
+    void shouldBeatRepeatedSelect() {
+        int size = 200000;
+        // Fixed data, so the comparison counts are the same on every run
+        int[] array = new Random(42).ints(size, 0, size * 100).toArray();
+        int[] ks = {size / 2, (int) (size * 0.9), (int) (size * 0.95), (int) (size * 0.99), (int) (size * 0.999)};
+
+        DeterministicSelect multi = new DeterministicSelect(new SortMetrics());
+        int[] values = multi.multiSelect(array.clone(), ks);
+        long multiComparisons = multi.getMetrics().getComparisons();
+
+        DeterministicSelect single = new DeterministicSelect(new SortMetrics());
+        long repeatedComparisons = 0;
+        for (int i = 0; i < ks.length; i++) {
+            assertEquals(values[i], single.select(array.clone(), ks[i]));
+            repeatedComparisons += single.getMetrics().getComparisons();
+        }
+
+        assertTrue(multiComparisons * 2 < repeatedComparisons,
+                multiComparisons + " vs " + repeatedComparisons);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid ranks and percentiles")
+    void shouldRejectInvalidInput() {
+        DeterministicSelect selector = new DeterministicSelect();
+        int[] array = {3, 1, 2};
+
+        assertThrows(IllegalArgumentException.class, () -> selector.multiSelect(array, null));
+        assertThrows(IllegalArgumentException.class, () -> selector.multiSelect(array, new int[]{3}));
+        assertThrows(IllegalArgumentException.class, () -> selector.multiSelect(null, new int[]{0}));
+        assertThrows(IllegalArgumentException.class, () -> selector.percentiles(array, 100.5));
+        assertThrows(IllegalArgumentException.class, () -> selector.percentiles(array, Double.NaN));
+        assertEquals(0, selector.multiSelect(array, new int[0]).length);
+    }
+}
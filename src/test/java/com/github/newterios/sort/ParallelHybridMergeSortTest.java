@@ -0,0 +1,87 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelHybridMergeSortTest {
+    private ForkJoinPool pool;
+    private ParallelHybridMergeSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        // A tiny threshold forces the parallel split and merge paths on test-sized inputs
+        sorter = new ParallelHybridMergeSort(pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should handle null and trivial arrays")
+    void shouldHandleTrivialArrays() {
+        assertDoesNotThrow(() -> sorter.sort(null));
+
+        int[] single = {7};
+        sorter.sort(single);
+        assertArrayEquals(new int[]{7}, single);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    @DisplayName("Should match Arrays.sort on various inputs")
+    void shouldMatchArraysSort(int[] array, String description) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        int[] actual = array.clone();
+        sorter.sort(actual);
+
+        assertArrayEquals(expected, actual, description);
+    }
+
+    private static Stream<Arguments> provideTestArrays() {
+        return Stream.of(
+                Arguments.of(ArrayGenerator.generateRandomArray(10_000, -50_000, 50_000), "Random 10000 elements"),
+                Arguments.of(ArrayGenerator.generateSortedArray(5_000, 1), "Sorted 5000 elements"),
+                Arguments.of(ArrayGenerator.generateReverseSortedArray(5_000, 1), "Reverse sorted 5000 elements"),
+                Arguments.of(ArrayGenerator.generateArrayWithDuplicates(10_000, 3), "Heavy duplicates"),
+                Arguments.of(ArrayGenerator.generateRandomArray(17, 1, 100), "Just above threshold")
+        );
+    }
+
+    @Test
+    @DisplayName("Should aggregate metrics across workers")
+    void shouldAggregateMetrics() {
+        int[] array = ArrayGenerator.generateRandomArray(4_096, 1, 100_000);
+        sorter.sort(array);
+
+        SortMetrics metrics = sorter.getMetrics();
+        assertTrue(metrics.getComparisons() > 0);
+        assertTrue(metrics.getAssignments() > 0);
+        // 4096 / 16 leaves gives 9 levels of splitting
+        assertEquals(9, metrics.getMaxRecursionDepth());
+        assertEquals(0, metrics.getCurrentRecursionDepth());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid thresholds")
+    void shouldRejectInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelHybridMergeSort(pool, 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelQuickSortTest {
+    private ForkJoinPool pool;
+    private ParallelQuickSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        // A tiny cutoff forces the parallel partitioning path on test-sized inputs
+        sorter = new ParallelQuickSort(pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should handle null and trivial arrays")
+    void shouldHandleTrivialArrays() {
+        assertDoesNotThrow(() -> sorter.sort(null));
+
+        int[] single = {7};
+        sorter.sort(single);
+        assertArrayEquals(new int[]{7}, single);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    @DisplayName("Should match Arrays.sort on various inputs")
+    void shouldMatchArraysSort(int[] array, String description) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        int[] actual = array.clone();
+        sorter.sort(actual);
+
+        assertArrayEquals(expected, actual, description);
+    }
+
+    private static Stream<Arguments> provideTestArrays() {
+        return Stream.of(
+                Arguments.of(ArrayGenerator.generateRandomArray(20_000, -50_000, 50_000), "Random 20000 elements"),
+                Arguments.of(ArrayGenerator.generateSortedArray(5_000, 1), "Sorted 5000 elements"),
+                Arguments.of(ArrayGenerator.generateReverseSortedArray(5_000, 1), "Reverse sorted 5000 elements"),
+                Arguments.of(ArrayGenerator.generateArrayWithDuplicates(10_000, 3), "Heavy duplicates"),
+                Arguments.of(ArrayGenerator.generateRandomArray(17, 1, 100), "Just above cutoff")
+        );
+    }
+
+    @Test
+    @DisplayName("Should aggregate metrics across workers")
+    void shouldAggregateMetrics() {
+        int[] array = ArrayGenerator.generateRandomArray(8_192, 1, 100_000);
+        sorter.sort(array);
+
+        SortMetrics metrics = sorter.getMetrics();
+        // Any comparison sort needs at least log2(8192!) ~ 94,000 comparisons
+        assertTrue(metrics.getComparisons() > 90_000);
+        assertTrue(metrics.getAssignments() > 0);
+        assertTrue(metrics.getMaxRecursionDepth() > 1);
+        assertEquals(0, metrics.getCurrentRecursionDepth());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cutoffs")
+    void shouldRejectInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSort(pool, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSort(null, 16));
+    }
+}
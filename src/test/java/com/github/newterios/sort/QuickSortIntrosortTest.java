@@ -0,0 +1,89 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuickSortIntrosortTest {
+
+    // Always picks the leftmost element, which is the classic quadratic case on sorted input
+    private static final class FirstElementRandom extends Random {
+        @Override
+        public int nextInt(int bound) {
+            return 0;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(QuickSort.Partitioning.class)
+    @DisplayName("Introsort should sort every input shape")
+    void shouldSortEveryShape(QuickSort.Partitioning partitioning) {
+        int[][] inputs = {
+                ArrayGenerator.generateRandomArray(5000, -10000, 10000),
+                ArrayGenerator.generateSortedArray(5000, 1),
+                ArrayGenerator.generateReverseSortedArray(5000, 1),
+                ArrayGenerator.generateNearlySortedArray(5000, 1, 0.05),
+                ArrayGenerator.generateArrayWithDuplicates(5000, 10),
+                {3, 1, 2}
+        };
+
+        for (int[] input : inputs) {
+            QuickSort sorter = new QuickSort(partitioning, true);
+            int[] expected = input.clone();
+            Arrays.sort(expected);
+
+            int[] actual = input.clone();
+            sorter.sort(actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Introsort should stay O(n log n) when every pivot is the worst choice")
+    void shouldBoundWorstCase() {
+        int size = 20000;
+        int[] array = ArrayGenerator.generateSortedArray(size, 1);
+        QuickSort sorter = new QuickSort(new SortMetrics(), QuickSort.Partitioning.LOMUTO, true, new FirstElementRandom());
+
+        sorter.sort(array);
+
+        assertArrayEquals(ArrayGenerator.generateSortedArray(size, 1), array);
+        SortMetrics metrics = sorter.getMetrics();
+        double log2n = Math.log(size) / Math.log(2);
+        // A quadratic run would need ~n^2/2 = 2e8 comparisons
+        assertTrue(metrics.getComparisons() < 4 * size * log2n,
+                "Comparisons " + metrics.getComparisons() + " should be O(n log n)");
+        assertTrue(metrics.getMaxRecursionDepth() <= 2 * log2n + 1);
+    }
+
+    @Test
+    @DisplayName("Introsort should be reported in the sorter name")
+    void shouldReportName() {
+        assertEquals("QuickSort-INTROSORT", new QuickSort(QuickSort.Partitioning.LOMUTO, true).getName());
+        assertEquals("QuickSort-THREE_WAY-INTROSORT", new QuickSort(QuickSort.Partitioning.THREE_WAY, true).getName());
+    }
+
+    @Test
+    @DisplayName("partialSort should fall back to heap selection when every pivot is the worst choice")
+    void shouldBoundPartialSortWorstCase() {
+        int size = 20000;
+        int k = 5000;
+        int[] array = ArrayGenerator.generateReverseSortedArray(size, 1);
+        QuickSort sorter = new QuickSort(new SortMetrics(), QuickSort.Partitioning.LOMUTO, false, new FirstElementRandom());
+
+        sorter.partialSort(array, k);
+
+        assertArrayEquals(ArrayGenerator.generateSortedArray(k, 1), Arrays.copyOf(array, k));
+        double log2n = Math.log(size) / Math.log(2);
+        assertTrue(sorter.getMetrics().getComparisons() < 4 * size * log2n,
+                "Comparisons " + sorter.getMetrics().getComparisons() + " should be O(n log n)");
+    }
+}
@@ -1,9 +1,12 @@
 package com.github.newterios.sort;
 
 import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import java.util.Arrays;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,4 +56,74 @@ class QuickSortTest {
         assertTrue(maxDepth <= expectedMaxDepth + 10,
                 String.format("Depth %d should be <= %f", maxDepth, expectedMaxDepth + 10));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Three-way partitioning should sort duplicate-heavy arrays")
+    void shouldSortDuplicatesWithThreeWayPartitioning() {
+        QuickSort threeWay = new QuickSort(QuickSort.Partitioning.THREE_WAY);
+        int[] array = ArrayGenerator.generateArrayWithDuplicates(5000, 10);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        threeWay.sort(array);
+        assertArrayEquals(expected, array);
+        assertEquals("QuickSort-THREE_WAY", threeWay.getName());
+    }
+
+    @Test
+    @DisplayName("Three-way partitioning should do less work than Lomuto on low-cardinality keys")
+    void shouldBeatLomutoOnDuplicates() {
+        int[] array = ArrayGenerator.generateArrayWithDuplicates(10000, 10);
+        QuickSort threeWay = new QuickSort(QuickSort.Partitioning.THREE_WAY);
+
+        sorter.sort(array.clone());
+        threeWay.sort(array.clone());
+
+        assertTrue(threeWay.getMetrics().getTotalOperations() < sorter.getMetrics().getTotalOperations(),
+                String.format("Three-way ops %d should be below Lomuto ops %d",
+                        threeWay.getMetrics().getTotalOperations(), sorter.getMetrics().getTotalOperations()));
+    }
+
+    @Test
+    @DisplayName("Three-way partitioning should handle all-equal arrays in one pass")
+    void shouldHandleAllEqualWithThreeWay() {
+        QuickSort threeWay = new QuickSort(QuickSort.Partitioning.THREE_WAY);
+        int[] array = new int[1000];
+        Arrays.fill(array, 42);
+
+        threeWay.sort(array);
+        assertEquals(2000, threeWay.getMetrics().getComparisons());
+        assertEquals(0, threeWay.getMetrics().getAssignments());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 255, 256, 257, 1000, 50_000})
+    @DisplayName("Block partitioning should match Arrays.sort around block boundaries")
+    void shouldSortWithBlockPartitioning(int size) {
+        QuickSort block = new QuickSort(QuickSort.Partitioning.BLOCK);
+        for (int[] array : new int[][]{
+                ArrayGenerator.generateRandomArray(size, -size, size),
+                ArrayGenerator.generateSortedArray(size, 1),
+                ArrayGenerator.generateReverseSortedArray(size, 1),
+                ArrayGenerator.generateArrayWithDuplicates(size, 3)}) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            block.sort(array);
+            assertArrayEquals(expected, array);
+        }
+        assertEquals("QuickSort-BLOCK", block.getName());
+    }
+
+    @Test
+    @DisplayName("Block partitioning should split all-equal arrays evenly")
+    void shouldBalanceAllEqualWithBlockPartitioning() {
+        QuickSort block = new QuickSort(QuickSort.Partitioning.BLOCK);
+        int[] array = new int[100_000];
+        Arrays.fill(array, 42);
+
+        block.sort(array);
+        // Equal keys are swapped across the pivot, so depth stays logarithmic instead of degrading to n
+        assertTrue(block.getMetrics().getMaxRecursionDepth() <= 2 * 17);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+    private RadixSort sorter;
+
+    @BeforeEach
+    void setUp() {
+        sorter = new RadixSort();
+    }
+
+    @Test
+    @DisplayName("Should sort basic array")
+    void shouldSortBasicArray() {
+        int[] array = {5, 2, 4, 6, 1, 3};
+        sorter.sort(array);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6}, array);
+    }
+
+    @Test
+    @DisplayName("Should order negative numbers and extremes correctly")
+    void shouldHandleSignedValues() {
+        int[] array = {0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 1, -256, 256, -65536};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        sorter.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestArrays")
+    @DisplayName("Should match Arrays.sort on various inputs")
+    void shouldMatchArraysSort(int[] array, String description) {
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        sorter.sort(array);
+        assertArrayEquals(expected, array, description);
+    }
+
+    private static Stream<Arguments> provideTestArrays() {
+        return Stream.of(
+                Arguments.of(ArrayGenerator.generateRandomArray(10000, Integer.MIN_VALUE / 4, Integer.MAX_VALUE / 4), "Wide random range"),
+                Arguments.of(ArrayGenerator.generateRandomArray(1000, -500, 500), "Small signed range"),
+                Arguments.of(ArrayGenerator.generateReverseSortedArray(1000, 1), "Reverse sorted"),
+                Arguments.of(ArrayGenerator.generateArrayWithDuplicates(1000, 10), "Many duplicates"),
+                Arguments.of(new int[]{7, 7, 7, 7}, "All same elements")
+        );
+    }
+
+    @Test
+    @DisplayName("Should skip passes where every key shares the digit")
+    void shouldSkipUniformDigitPasses() {
+        // Values below 256 differ only in the lowest digit, so exactly one scatter pass runs
+        int[] array = ArrayGenerator.generateRandomArray(1000, 0, 255);
+        sorter.sort(array);
+
+        assertEquals(1000 * 2, sorter.getMetrics().getAssignments());
+        assertEquals(0, sorter.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("Should reuse scratch buffer across calls")
+    void shouldReuseAcrossCalls() {
+        int[] large = ArrayGenerator.generateRandomArray(5000, -100000, 100000);
+        int[] small = ArrayGenerator.generateRandomArray(50, -100, 100);
+        int[] expectedSmall = small.clone();
+        Arrays.sort(expectedSmall);
+
+        sorter.sort(large);
+        sorter.sort(small);
+        assertArrayEquals(expectedSmall, small);
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.AllocationCounter;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RangeAndPartialSortTest {
+
+    @Test
+    @DisplayName("Every registered sorter should sort only the requested range")
+    void shouldSortRangeWithEverySorter() {
+        int[] array = ArrayGenerator.generateRandomArray(3000, -10_000, 10_000);
+        int from = 700, to = 2100;
+        int[] expected = array.clone();
+        Arrays.sort(expected, from, to);
+
+        for (Sorter sorter : SorterRegistry.createAll()) {
+            int[] actual = array.clone();
+            sorter.sort(actual, from, to);
+            assertArrayEquals(expected, actual, sorter.getName());
+        }
+
+        int[] adaptive = array.clone();
+        new HybridMergeSort(true).sort(adaptive, from, to);
+        assertArrayEquals(expected, adaptive, "HybridMergeSort-ADAPTIVE");
+    }
+
+    @Test
+    @DisplayName("Range sorts should size scratch to the range, not to its end index")
+    void shouldSizeScratchToRange() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        int[] array = ArrayGenerator.generateRandomArray(1_000_000, 0, 1000);
+        int n = array.length;
+        Sorter[] sorters = {new MergeSort(SortMetrics.noOp()), new HybridMergeSort(SortMetrics.noOp())};
+
+        for (Sorter sorter : sorters) {
+            int[] tail = Arrays.copyOfRange(array, n - 20, n);
+            Arrays.sort(tail);
+
+            long before = AllocationCounter.currentThreadAllocatedBytes();
+            sorter.sort(array, n - 20, n);
+            long allocated = AllocationCounter.currentThreadAllocatedBytes() - before;
+
+            assertArrayEquals(tail, Arrays.copyOfRange(array, n - 20, n), sorter.getName());
+            assertTrue(allocated < 1024, sorter.getName() + " allocated " + allocated + " bytes");
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept empty ranges and reject invalid ones")
+    void shouldValidateRanges() {
+        int[] array = {3, 2, 1};
+        new QuickSort().sort(array, 1, 1);
+        new HybridMergeSort().sort(array, 3, 3);
+        assertArrayEquals(new int[]{3, 2, 1}, array);
+
+        for (Sorter sorter : SorterRegistry.createAll()) {
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 2, 1), sorter.getName());
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, -1, 2), sorter.getName());
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(array, 0, 4), sorter.getName());
+            assertThrows(IllegalArgumentException.class, () -> sorter.sort(null, 0, 0), sorter.getName());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 16, 17, 100, 4999, 5000})
+    @DisplayName("partialSort should leave the k smallest elements in sorted order")
+    void shouldPartialSort(int k) {
+        for (int[] array : new int[][]{
+                ArrayGenerator.generateRandomArray(5000, -100_000, 100_000),
+                ArrayGenerator.generateArrayWithDuplicates(5000, 7),
+                ArrayGenerator.generateSortedArray(5000, 1),
+                ArrayGenerator.generateReverseSortedArray(5000, 1)}) {
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            int[] actual = array.clone();
+            new QuickSort().partialSort(actual, k);
+
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(actual, k));
+            int[] all = actual.clone();
+            Arrays.sort(all);
+            assertArrayEquals(expected, all, "partialSort must permute, not lose, elements");
+        }
+    }
+
+    @Test
+    @DisplayName("partialSort should do far less work than a full sort for small k")
+    void shouldBeCheaperThanFullSort() {
+        int[] array = ArrayGenerator.generateRandomArray(200_000, 0, Integer.MAX_VALUE - 1);
+        QuickSort partial = new QuickSort();
+        QuickSort full = new QuickSort();
+
+        partial.partialSort(array.clone(), 100);
+        full.sort(array.clone());
+
+        // Expected ~2n comparisons for selection plus k log k, against ~n log n for the full sort
+        assertTrue(partial.getMetrics().getComparisons() < 8L * array.length,
+                "partial comparisons " + partial.getMetrics().getComparisons());
+        assertTrue(partial.getMetrics().getComparisons() * 3 < full.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("partialSort on the default constructor should stay O(n log n) with many duplicates")
+    void shouldBoundPartialSortWithDuplicates() {
+        int size = 200_000;
+        int[] array = ArrayGenerator.generateArrayWithDuplicates(size, 3);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        QuickSort sorter = new QuickSort();
+        sorter.partialSort(array, size);
+
+        assertArrayEquals(expected, array);
+        double log2n = Math.log(size) / Math.log(2);
+        assertTrue(sorter.getMetrics().getComparisons() <= 4 * size * log2n,
+                "comparisons: " + sorter.getMetrics().getComparisons());
+    }
+
+    @Test
+    @DisplayName("partialSort should reject invalid k")
+    void shouldRejectInvalidK() {
+        QuickSort sorter = new QuickSort();
+        assertThrows(IllegalArgumentException.class, () -> sorter.partialSort(new int[3], 4));
+        assertThrows(IllegalArgumentException.class, () -> sorter.partialSort(new int[3], -1));
+        assertThrows(IllegalArgumentException.class, () -> sorter.partialSort(null, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.AllocationCounter;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SortSessionTest {
+
+    @Test
+    @DisplayName("Should sort and reuse one session per thread")
+    void shouldReuseSessionPerThread() throws InterruptedException {
+        int[] array = ArrayGenerator.generateRandomArray(1000, -1000, 1000);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        SortSession.current().sort(array);
+
+        assertArrayEquals(expected, array);
+        assertSame(SortSession.current(), SortSession.current());
+
+        SortSession[] other = new SortSession[1];
+        Thread thread = new Thread(() -> other[0] = SortSession.current());
+        thread.start();
+        thread.join();
+        assertNotSame(SortSession.current(), other[0]);
+    }
+
+    @Test
+    @DisplayName("Should not allocate once scratch buffers have grown")
+    void shouldNotAllocateInSteadyState() {
+        assumeTrue(AllocationCounter.isSupported());
+
+        // Mixed sizes, so buffers sized by the first array would have to grow later
+        int[][] sources = new int[64][];
+        int[][] arrays = new int[sources.length][];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = ArrayGenerator.generateRandomArray(1 + (i * 37) % 3000, 0, 10_000);
+            arrays[i] = new int[sources[i].length];
+        }
+
+        assertSteadyStateAllocationFree(new SortSession(), sources, arrays);
+        assertSteadyStateAllocationFree(new SortSession(new MergeSort(SortMetrics.noOp())), sources, arrays);
+        assertSteadyStateAllocationFree(new SortSession(new QuickSort(SortMetrics.noOp())), sources, arrays);
+        assertSteadyStateAllocationFree(new SortSession(new BottomUpMergeSort(SortMetrics.noOp())), sources, arrays);
+        assertSteadyStateAllocationFree(new SortSession(new RadixSort(SortMetrics.noOp())), sources, arrays);
+    }
+
+    private static void assertSteadyStateAllocationFree(SortSession session, int[][] sources, int[][] arrays) {
+        // Warm-up grows the buffers to the largest size and lets the JIT settle
+        for (int round = 0; round < 20; round++) {
+            sortAll(session, sources, arrays);
+        }
+
+        long before = AllocationCounter.currentThreadAllocatedBytes();
+        sortAll(session, sources, arrays);
+        long allocated = AllocationCounter.currentThreadAllocatedBytes() - before;
+
+        // Small slack for the counter call itself
+        assertTrue(allocated < 1024, session.getSorter().getName() + " allocated " + allocated + " bytes");
+    }
+
+    private static void sortAll(SortSession session, int[][] sources, int[][] arrays) {
+        for (int i = 0; i < sources.length; i++) {
+            System.arraycopy(sources[i], 0, arrays[i], 0, sources[i].length);
+            session.sort(arrays[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a null sorter")
+    void shouldRejectNullSorter() {
+        assertThrows(IllegalArgumentException.class, () -> new SortSession(null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SorterRegistryTest {
+
+    @Test
+    @DisplayName("Should discover all built-in sorters")
+    void shouldDiscoverBuiltInSorters() {
+        List<String> names = SorterRegistry.getNames();
+
+        assertTrue(names.contains("HybridMergeSort"));
+        assertTrue(names.contains("QuickSort"));
+        assertTrue(names.contains("InsertionSort"));
+        assertTrue(names.contains("MergeSort"));
+    }
+
+    @Test
+    @DisplayName("Should discover configured variants by name")
+    void shouldDiscoverVariants() {
+        List<String> names = SorterRegistry.getNames();
+
+        for (String name : List.of("QuickSort-THREE_WAY", "QuickSort-BLOCK", "QuickSort-INTROSORT", "HybridMergeSort-ADAPTIVE")) {
+            assertTrue(names.contains(name), name);
+            assertEquals(name, SorterRegistry.create(name).getName());
+        }
+        assertEquals(QuickSort.Partitioning.BLOCK, ((QuickSort) SorterRegistry.create("QuickSort-BLOCK")).getPartitioning());
+        assertTrue(((HybridMergeSort) SorterRegistry.create("HybridMergeSort-ADAPTIVE")).isAdaptive());
+    }
+
+    @Test
+    @DisplayName("Should create fresh instances by name")
+    void shouldCreateFreshInstances() {
+        Sorter first = SorterRegistry.create("QuickSort");
+        Sorter second = SorterRegistry.create("QuickSort");
+
+        assertInstanceOf(QuickSort.class, first);
+        assertNotSame(first, second);
+        assertNotSame(first.getMetrics(), second.getMetrics());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown sorter names")
+    void shouldRejectUnknownNames() {
+        assertThrows(IllegalArgumentException.class, () -> SorterRegistry.create("BogoSort"));
+    }
+
+    @Test
+    @DisplayName("Every registered sorter should sort correctly")
+    void everyRegisteredSorterShouldSort() {
+        int[] array = ArrayGenerator.generateRandomArray(1000, -500, 500);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        for (Sorter sorter : SorterRegistry.createAll()) {
+            int[] copy = array.clone();
+            sorter.sort(copy);
+            assertArrayEquals(expected, copy, sorter.getName() + " should sort correctly");
+        }
+    }
+}
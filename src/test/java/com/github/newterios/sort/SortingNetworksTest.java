@@ -0,0 +1,61 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingNetworksTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16})
+    @DisplayName("Should sort every 0-1 input, which proves the network sorts any input")
+    void shouldSortAllZeroOneInputs(int size) {
+        SortMetrics metrics = SortMetrics.noOp();
+        int[] array = new int[size];
+
+        for (int mask = 0; mask < 1 << size; mask++) {
+            for (int i = 0; i < size; i++) {
+                array[i] = (mask >>> i) & 1;
+            }
+            SortingNetworks.sort(array, 0, size, metrics);
+
+            int ones = Integer.bitCount(mask);
+            for (int i = 0; i < size; i++) {
+                assertEquals(i >= size - ones ? 1 : 0, array[i], "mask " + mask);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should sort only the requested range and count its comparators")
+    void shouldSortSubrange() {
+        int[] array = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        SortMetrics metrics = new SortMetrics();
+
+        SortingNetworks.sort(array, 2, 10, metrics);
+
+        assertArrayEquals(new int[]{9, 8, Integer.MIN_VALUE, 0, 1, 2, 3, 4, 5, 6, 7, Integer.MAX_VALUE}, array);
+        assertEquals(SortingNetworks.comparatorCount(10), metrics.getComparisons());
+    }
+
+    @Test
+    @DisplayName("Should match Arrays.sort on random small arrays with duplicates")
+    void shouldMatchArraysSort() {
+        for (int trial = 0; trial < 2000; trial++) {
+            int size = trial % (SortingNetworks.MAX_SIZE + 1);
+            int[] array = ArrayGenerator.generateRandomArray(size, -5, 5);
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            SortingNetworks.sort(array, 0, size, SortMetrics.noOp());
+            assertArrayEquals(expected, array);
+        }
+    }
+}
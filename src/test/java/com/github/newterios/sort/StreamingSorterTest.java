@@ -0,0 +1,95 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should sort an IntStream held entirely in memory")
+    void shouldSortInMemory() throws IOException {
+        int[] values = ArrayGenerator.generateRandomArray(10_000, Integer.MIN_VALUE / 4, Integer.MAX_VALUE / 4);
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        try (StreamingSorter sorter = new StreamingSorter(1000, 16, 64, tempDir)) {
+            sorter.addAll(IntStream.of(values));
+            assertEquals(0, sorter.getSpilledRunCount());
+            assertArrayEquals(expected, sorter.sorted().toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Should spill past the in-memory limit and merge in several passes")
+    void shouldSpillAndMergeInPasses() throws IOException {
+        int[] values = ArrayGenerator.generateArrayWithDuplicates(50_000, 500);
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        try (StreamingSorter sorter = new StreamingSorter(100, 2, 4, tempDir)) {
+            for (int value : values) {
+                sorter.add(value);
+            }
+            assertEquals(498, sorter.getSpilledRunCount());
+
+            assertArrayEquals(expected, sorter.sorted().toArray());
+        }
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count(), "spilled runs should be deleted on close");
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept chunked ByteBuffers in their own byte order")
+    void shouldAcceptByteBuffers() throws IOException {
+        try (StreamingSorter sorter = new StreamingSorter(3, 1, 3, tempDir)) {
+            ByteBuffer bigEndian = ByteBuffer.allocate(16);
+            bigEndian.putInt(5).putInt(-1).putInt(9).putInt(0).flip();
+            ByteBuffer littleEndian = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            littleEndian.putInt(7).putInt(3).putInt(Integer.MIN_VALUE).flip();
+
+            sorter.addAll(bigEndian);
+            sorter.addAll(littleEndian);
+            sorter.addAll(new int[]{42, 2}, 0, 2);
+
+            assertEquals(9, sorter.size());
+            assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 2, 3, 5, 7, 9, 42}, sorter.sorted().toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle empty input and reject input after finish")
+    void shouldHandleEmptyInputAndFinishedState() throws IOException {
+        try (StreamingSorter sorter = new StreamingSorter(10, 1)) {
+            PrimitiveIterator.OfInt sorted = sorter.finish();
+            assertFalse(sorted.hasNext());
+            assertThrows(IllegalStateException.class, () -> sorter.add(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration and partial ints")
+    void shouldRejectInvalidInput() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingSorter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingSorter(10, 8, 9, null));
+        try (StreamingSorter sorter = new StreamingSorter(10, 1)) {
+            assertThrows(IllegalArgumentException.class, () -> sorter.addAll(ByteBuffer.allocate(3)));
+        }
+    }
+}
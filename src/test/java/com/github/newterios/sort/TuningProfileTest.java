@@ -0,0 +1,100 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import com.github.newterios.performance.ArrayGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TuningProfileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should fall back to defaults when no profile exists")
+    void shouldUseDefaultsWhenMissing() throws IOException {
+        TuningProfile profile = TuningProfile.load(tempDir.resolve("missing.properties"));
+        TuningProfile defaults = TuningProfile.defaults();
+
+        assertEquals(defaults.getMergeSortCutoff(), profile.getMergeSortCutoff());
+        assertEquals(defaults.getQuickSortCutoff(), profile.getQuickSortCutoff());
+        assertEquals(defaults.getParallelMergeThreshold(), profile.getParallelMergeThreshold());
+        assertEquals(defaults.getParallelQuickSortCutoff(), profile.getParallelQuickSortCutoff());
+    }
+
+    @Test
+    @DisplayName("Should round-trip through a properties file")
+    void shouldRoundTrip() throws IOException {
+        Path path = tempDir.resolve("profile.properties");
+        new TuningProfile(8, 12, 4096, 32768).store(path);
+
+        TuningProfile loaded = TuningProfile.load(path);
+
+        assertEquals(8, loaded.getMergeSortCutoff());
+        assertEquals(12, loaded.getQuickSortCutoff());
+        assertEquals(4096, loaded.getParallelMergeThreshold());
+        assertEquals(32768, loaded.getParallelQuickSortCutoff());
+    }
+
+    @Test
+    @DisplayName("Should replace invalid entries with defaults key by key")
+    void shouldIgnoreInvalidEntries() throws IOException {
+        Path path = tempDir.resolve("broken.properties");
+        Files.writeString(path, "mergeSort.cutoff=99\nquickSort.cutoff=abc\nparallelMergeSort.threshold=2048\n");
+
+        TuningProfile loaded = TuningProfile.load(path);
+        TuningProfile defaults = TuningProfile.defaults();
+
+        assertEquals(defaults.getMergeSortCutoff(), loaded.getMergeSortCutoff());
+        assertEquals(defaults.getQuickSortCutoff(), loaded.getQuickSortCutoff());
+        assertEquals(2048, loaded.getParallelMergeThreshold());
+        assertEquals(defaults.getParallelQuickSortCutoff(), loaded.getParallelQuickSortCutoff());
+    }
+
+    @Test
+    @DisplayName("Should reject out-of-range cutoffs")
+    void shouldRejectInvalidCutoffs() {
+        assertThrows(IllegalArgumentException.class, () -> new TuningProfile(1, 16, 8192, 8192));
+        assertThrows(IllegalArgumentException.class, () -> new TuningProfile(16, 17, 8192, 8192));
+        assertThrows(IllegalArgumentException.class, () -> new TuningProfile(16, 16, 1, 8192));
+    }
+
+    @Test
+    @DisplayName("Should sort correctly with every allowed leaf size")
+    void shouldSortWithEveryLeafSize() {
+        int[] array = ArrayGenerator.generateRandomArray(1000, -500, 500);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        for (int leafSize = 2; leafSize <= SortingNetworks.MAX_SIZE; leafSize++) {
+            int[] merged = array.clone();
+            new HybridMergeSort(new SortMetrics(), false, leafSize).sort(merged);
+            assertArrayEquals(expected, merged);
+
+            int[] quick = array.clone();
+            new QuickSort(new SortMetrics(), QuickSort.Partitioning.BLOCK, true,
+                    new Random(leafSize), leafSize).sort(quick);
+            assertArrayEquals(expected, quick);
+        }
+    }
+
+    @Test
+    @DisplayName("Tuner should produce a valid profile")
+    void shouldTune() {
+        TuningProfile profile = new SortTuner(2048, 1 << 14, 0, 1).tune();
+
+        assertTrue(TuningProfile.isValidLeafCutoff(profile.getMergeSortCutoff()));
+        assertTrue(TuningProfile.isValidLeafCutoff(profile.getQuickSortCutoff()));
+        assertTrue(profile.getParallelMergeThreshold() >= 1 << 10);
+        assertTrue(profile.getParallelQuickSortCutoff() >= 1 << 10);
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.newterios.sort;
+
+import com.github.newterios.metrics.SortMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedSortVariantsTest {
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    @DisplayName("long[] overloads should match Arrays.sort")
+    void shouldSortLongs() {
+        long[] array = new long[3000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = RANDOM.nextLong();
+        }
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        long[] hybrid = array.clone();
+        new HybridMergeSort().sort(hybrid);
+        assertArrayEquals(expected, hybrid);
+
+        long[] quick = array.clone();
+        new QuickSort().sort(quick);
+        assertArrayEquals(expected, quick);
+
+        long[] merge = array.clone();
+        new MergeSort().sort(merge);
+        assertArrayEquals(expected, merge);
+
+        long[] insertion = Arrays.copyOf(array, 300);
+        long[] expectedInsertion = insertion.clone();
+        Arrays.sort(expectedInsertion);
+        new InsertionSort().sort(insertion);
+        assertArrayEquals(expectedInsertion, insertion);
+    }
+
+    @Test
+    @DisplayName("double[] overloads should order NaN and signed zeros like Double.compare")
+    void shouldSortDoublesWithSpecialValues() {
+        double[] array = new double[2000];
+        for (int i = 0; i < array.length; i++) {
+            switch (i % 10) {
+                case 0 -> array[i] = Double.NaN;
+                case 1 -> array[i] = -0.0d;
+                case 2 -> array[i] = 0.0d;
+                case 3 -> array[i] = Double.NEGATIVE_INFINITY;
+                case 4 -> array[i] = Double.POSITIVE_INFINITY;
+                default -> array[i] = RANDOM.nextGaussian();
+            }
+        }
+        shuffle(array);
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        double[] hybrid = array.clone();
+        new HybridMergeSort().sort(hybrid);
+        assertTrue(Arrays.equals(expected, hybrid), "HybridMergeSort");
+
+        double[] quick = array.clone();
+        new QuickSort().sort(quick);
+        assertTrue(Arrays.equals(expected, quick), "QuickSort");
+
+        double[] merge = array.clone();
+        new MergeSort().sort(merge);
+        assertTrue(Arrays.equals(expected, merge), "MergeSort");
+
+        double[] insertion = array.clone();
+        new InsertionSort().sort(insertion);
+        assertTrue(Arrays.equals(expected, insertion), "InsertionSort");
+    }
+
+    @Test
+    @DisplayName("double[] overloads should handle all-NaN input")
+    void shouldHandleAllNaN() {
+        double[] array = {Double.NaN, Double.NaN, -0.0d};
+        new QuickSort().sort(array);
+        assertEquals(-0.0d, array[0]);
+        assertTrue(Double.isNaN(array[1]) && Double.isNaN(array[2]));
+    }
+
+    @Test
+    @DisplayName("Comparator overloads should sort records by key")
+    void shouldSortWithComparator() {
+        String[] words = new String[1000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = Integer.toString(RANDOM.nextInt(100000), 36);
+        }
+        String[] expected = words.clone();
+        Arrays.sort(expected, Comparator.naturalOrder());
+
+        String[] hybrid = words.clone();
+        new HybridMergeSort().sort(hybrid, Comparator.naturalOrder());
+        assertArrayEquals(expected, hybrid);
+
+        String[] quick = words.clone();
+        new QuickSort().sort(quick, Comparator.naturalOrder());
+        assertArrayEquals(expected, quick);
+    }
+
+    @Test
+    @DisplayName("HybridMergeSort comparator overload should be stable")
+    void shouldBeStable() {
+        int[][] records = new int[500][];
+        for (int i = 0; i < records.length; i++) {
+            records[i] = new int[]{RANDOM.nextInt(10), i};
+        }
+
+        new HybridMergeSort().sort(records, Comparator.comparingInt(record -> record[0]));
+
+        for (int i = 1; i < records.length; i++) {
+            assertTrue(records[i - 1][0] < records[i][0]
+                    || (records[i - 1][0] == records[i][0] && records[i - 1][1] < records[i][1]));
+        }
+    }
+
+    @Test
+    @DisplayName("QuickSort typed overloads should stay shallow on all-equal and heavily duplicated keys")
+    void shouldHandleDuplicatesInTypedQuickSort() {
+        int size = 50000;
+        long[] longs = new long[size];
+        double[] doubles = new double[size];
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = i % 3;
+            doubles[i] = 1.5;
+            boxed[i] = i % 2;
+        }
+
+        QuickSort sorter = new QuickSort(new SortMetrics(), QuickSort.Partitioning.THREE_WAY, true);
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        sorter.sort(longs);
+        assertArrayEquals(expectedLongs, longs);
+        assertTrue(sorter.getMetrics().getMaxRecursionDepth() < 10);
+
+        sorter.sort(doubles);
+        assertTrue(Arrays.stream(doubles).allMatch(value -> value == 1.5));
+        assertTrue(sorter.getMetrics().getMaxRecursionDepth() < 10);
+
+        Integer[] expectedBoxed = boxed.clone();
+        Arrays.sort(expectedBoxed);
+        sorter.sort(boxed, Comparator.naturalOrder());
+        assertArrayEquals(expectedBoxed, boxed);
+        assertTrue(sorter.getMetrics().getMaxRecursionDepth() < 10);
+    }
+
+    @Test
+    @DisplayName("QuickSort typed overloads should fall back to heapsort when every pivot is the worst choice")
+    void shouldBoundTypedQuickSortDepth() {
+        // Always picks the leftmost element, which is the smallest on sorted input
+        Random firstElement = new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return 0;
+            }
+        };
+        int size = 20000;
+        long[] longs = new long[size];
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = i;
+            boxed[i] = i;
+        }
+
+        QuickSort sorter = new QuickSort(new SortMetrics(), QuickSort.Partitioning.THREE_WAY, true, firstElement);
+        double log2n = Math.log(size) / Math.log(2);
+
+        sorter.sort(longs);
+        assertTrue(sorter.getMetrics().getMaxRecursionDepth() <= 2 * log2n + 2);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, longs[i]);
+        }
+
+        sorter.sort(boxed, Comparator.naturalOrder());
+        assertTrue(sorter.getMetrics().getMaxRecursionDepth() <= 2 * log2n + 2);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, boxed[i]);
+        }
+    }
+
+    private static void shuffle(double[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = RANDOM.nextInt(i + 1);
+            double temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+}